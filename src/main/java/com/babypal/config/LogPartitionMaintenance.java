@@ -0,0 +1,312 @@
+package com.babypal.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the audit {@code log} table range-partitioned by month on {@code created_at} (PostgreSQL only).
+ * <ul>
+ * <li>On first run the existing table is converted in place: it becomes the {@code log_legacy} partition
+ * covering everything up to the end of next month, so no rows are copied. Anything that has to read the
+ * whole table (a CHECK constraint proving the partition bound, the {@code (id, created_at)} primary key
+ * index) is prepared beforehand without blocking writes, so the conversion itself only touches the
+ * catalog.</li>
+ * <li>Partitions are created {@code monthsAhead} months in advance; a DEFAULT partition catches anything
+ * outside them.</li>
+ * <li>Partitions older than {@code retentionMonths} are summarized into {@code log_hourly_rollup}
+ * (counts per hour, type, action and status code) and dropped in the same transaction, instead of
+ * deleting rows one by one.</li>
+ * </ul>
+ * Every run takes an advisory lock so only one instance does the work.
+ */
+@Component
+public class LogPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogPartitionMaintenance.class);
+    private static final long ADVISORY_LOCK_KEY = 0x6c6f675f70617274L; // "log_part"
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final Pattern CHECK_BOUND = Pattern.compile("created_at < '([^']+)'");
+    private static final String LEGACY_BOUND = "log_legacy_bound";
+    private static final String LEGACY_KEY_INDEX = "log_id_created_at_key";
+
+    private static final String[] PARENT_INDEXES = {
+            "CREATE INDEX IF NOT EXISTS idx_log_username_action_created_at ON log (username, action, created_at)",
+            "CREATE INDEX IF NOT EXISTS idx_log_action_created_at ON log (action, created_at)",
+            "CREATE INDEX IF NOT EXISTS idx_log_type_type_id_created_at ON log (type, type_id, created_at)",
+            "CREATE INDEX IF NOT EXISTS idx_log_created_at ON log (created_at)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public LogPartitionMaintenance(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            @Value("${spring.app.auditLog.partitioning.enabled:true}") boolean enabled,
+            @Value("${spring.app.auditLog.partitioning.monthsAhead:2}") int monthsAhead,
+            @Value("${spring.app.auditLog.retentionMonths:6}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${spring.app.auditLog.partitioning.cron:0 15 3 * * *}", zone = "Asia/Singapore")
+    public void maintain() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        LocalDate thisMonth = LocalDate.now(ZoneId.of("Asia/Singapore")).withDayOfMonth(1);
+        try {
+            if ("r".equals(logRelkind(jdbcTemplate))) {
+                prepareConversion(thisMonth);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                        ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    logger.info("Log partition maintenance is running on another instance, skipping");
+                    return;
+                }
+                if (convertIfNeeded()) {
+                    createUpcomingPartitions(thisMonth);
+                    dropExpiredPartitions(thisMonth.minusMonths(retentionMonths));
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Log partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Does the full-table work of the conversion while log is still a plain table and stays writable: a
+     * NOT VALID CHECK matching the legacy partition bound is added (brief lock, no scan) and then
+     * validated (scans, but only blocks schema changes), and the indexes the partitioned parent will need
+     * are built concurrently. ATTACH PARTITION then trusts the constraint and adopts the indexes instead
+     * of scanning under an ACCESS EXCLUSIVE lock. Runs on one autocommit connection, as CREATE INDEX
+     * CONCURRENTLY cannot run inside a transaction, holding the session form of the advisory lock.
+     */
+    private void prepareConversion(LocalDate thisMonth) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class,
+                    ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return null;
+            }
+            try {
+                if ("r".equals(logRelkind(session))) {
+                    addLegacyBound(session, thisMonth);
+                    session.execute("ALTER TABLE log VALIDATE CONSTRAINT " + LEGACY_BOUND);
+                    // Left behind by an interrupted concurrent build; IF NOT EXISTS would skip over them
+                    for (String index : session.queryForList("SELECT c.relname FROM pg_index i "
+                            + "JOIN pg_class c ON c.oid = i.indexrelid "
+                            + "WHERE i.indrelid = 'log'::regclass AND NOT i.indisvalid", String.class)) {
+                        session.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+                    }
+                    session.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + LEGACY_KEY_INDEX
+                            + " ON log (id, created_at)");
+                    for (String ddl : PARENT_INDEXES) {
+                        session.execute(ddl.replace("CREATE INDEX", "CREATE INDEX CONCURRENTLY"));
+                    }
+                }
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            }
+            return null;
+        });
+    }
+
+    // The bound covers next month as well, so a conversion that keeps failing has a month's grace before
+    // new rows would be rejected by the constraint; it is moved forward once that grace runs low
+    private void addLegacyBound(JdbcTemplate session, LocalDate thisMonth) {
+        LocalDateTime current = legacyBound(session, false);
+        if (current != null && current.isAfter(thisMonth.plusMonths(1).atStartOfDay())) {
+            return;
+        }
+        Timestamp maxCreatedAt = session.queryForObject("SELECT max(created_at) FROM log", Timestamp.class);
+        LocalDate legacyEnd = thisMonth.plusMonths(2);
+        if (maxCreatedAt != null && !maxCreatedAt.toLocalDateTime().isBefore(legacyEnd.atStartOfDay())) {
+            legacyEnd = maxCreatedAt.toLocalDateTime().toLocalDate().withDayOfMonth(1).plusMonths(1);
+        }
+        session.execute("ALTER TABLE log DROP CONSTRAINT IF EXISTS " + LEGACY_BOUND);
+        session.execute("ALTER TABLE log ADD CONSTRAINT " + LEGACY_BOUND + " CHECK (created_at IS NOT NULL "
+                + "AND created_at < '" + legacyEnd.atStartOfDay() + "') NOT VALID");
+    }
+
+    // Returns false when there is no log table yet, or it has not been prepared for conversion
+    private boolean convertIfNeeded() {
+        String kind = logRelkind(jdbcTemplate);
+        if (kind == null) {
+            return false;
+        }
+        if ("p".equals(kind)) {
+            return true;
+        }
+        LocalDateTime legacyEnd = legacyBound(jdbcTemplate, true);
+        List<Boolean> keyIndex = jdbcTemplate.queryForList("SELECT i.indisvalid FROM pg_index i "
+                + "JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = '" + LEGACY_KEY_INDEX + "' "
+                + "AND i.indrelid = 'log'::regclass", Boolean.class);
+        if (legacyEnd == null || !keyIndex.equals(List.of(true))) {
+            logger.warn("Log is not ready to be partitioned yet, will retry on the next run");
+            return false;
+        }
+
+        logger.info("Converting log to a partitioned table");
+        // Both are proven by the validated constraint or the current key, so neither scans
+        jdbcTemplate.execute("ALTER TABLE log ALTER COLUMN id SET NOT NULL, ALTER COLUMN created_at SET NOT NULL");
+        for (String primaryKey : jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = 'log'::regclass AND contype = 'p'",
+                String.class)) {
+            jdbcTemplate.execute("ALTER TABLE log DROP CONSTRAINT " + primaryKey);
+        }
+        jdbcTemplate.execute("ALTER TABLE log ADD CONSTRAINT log_pkey PRIMARY KEY USING INDEX " + LEGACY_KEY_INDEX);
+
+        jdbcTemplate.execute("ALTER TABLE log RENAME TO log_legacy");
+        // Free the index names (including the primary key's) for the new parent table
+        for (String index : jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() AND tablename = 'log_legacy'",
+                String.class)) {
+            jdbcTemplate.execute("ALTER INDEX " + index + " RENAME TO " + index + "_legacy");
+        }
+        jdbcTemplate.execute("CREATE TABLE log (LIKE log_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE log ADD PRIMARY KEY (id, created_at)");
+        for (String ddl : PARENT_INDEXES) {
+            jdbcTemplate.execute(ddl);
+        }
+        // The parent's indexes are matched to the ones prepared on log_legacy and the bound is taken from
+        // the constraint, so this is catalog-only; the constraint is redundant afterwards
+        jdbcTemplate.execute("ALTER TABLE log ATTACH PARTITION log_legacy FOR VALUES FROM (MINVALUE) TO ('"
+                + legacyEnd + "')");
+        jdbcTemplate.execute("ALTER TABLE log_legacy DROP CONSTRAINT " + LEGACY_BOUND);
+        jdbcTemplate.execute("CREATE TABLE log_default PARTITION OF log DEFAULT");
+        return true;
+    }
+
+    private void createUpcomingPartitions(LocalDate thisMonth) {
+        LocalDateTime coveredUntil = partitionUpperBounds().values().stream()
+                .max(LocalDateTime::compareTo)
+                .orElse(thisMonth.atStartOfDay());
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate month = thisMonth.plusMonths(i);
+            if (month.atStartOfDay().isBefore(coveredUntil)) {
+                continue;
+            }
+            String name = "log_p" + month.format(PARTITION_SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF log FOR VALUES FROM ('"
+                    + month.atStartOfDay() + "') TO ('" + month.plusMonths(1).atStartOfDay() + "')");
+            logger.info("Created log partition {}", name);
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDate cutoff) {
+        for (Map.Entry<String, LocalDateTime> partition : partitionUpperBounds().entrySet()) {
+            if (partition.getValue().isAfter(cutoff.atStartOfDay())) {
+                continue;
+            }
+            String name = partition.getKey();
+            int rolledUp = rollUp(name, "");
+            jdbcTemplate.execute("DROP TABLE " + name);
+            logger.info("Rolled up log partition {} into {} hourly rows and dropped it", name, rolledUp);
+        }
+        // The range partitions run from MINVALUE to monthsAhead months out, so the DEFAULT partition only
+        // sees rows dated further ahead than that and is normally empty. Whatever does land there is
+        // rolled up and deleted once it is past the cutoff, like any other partition
+        String expired = " WHERE created_at < '" + cutoff.atStartOfDay() + "'";
+        if (rollUp("log_default", expired) > 0) {
+            int deleted = jdbcTemplate.update("DELETE FROM log_default" + expired);
+            logger.info("Rolled up and deleted {} expired rows from log_default", deleted);
+        }
+    }
+
+    private int rollUp(String partition, String where) {
+        return jdbcTemplate.update(
+                "INSERT INTO log_hourly_rollup (bucket_start, type, action, status_code, event_count) "
+                        + "SELECT date_trunc('hour', created_at), coalesce(type, ''), coalesce(action, ''), "
+                        + "coalesce(status_code, ''), sum(coalesce(event_count, 1)) FROM " + partition + where
+                        + " GROUP BY 1, 2, 3, 4 ON CONFLICT (bucket_start, type, action, status_code) "
+                        + "DO UPDATE SET event_count = log_hourly_rollup.event_count + EXCLUDED.event_count");
+    }
+
+    // Range partitions of log and their exclusive upper bounds; the DEFAULT partition has none
+    private Map<String, LocalDateTime> partitionUpperBounds() {
+        Map<String, LocalDateTime> bounds = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'log'::regclass",
+                rs -> {
+                    Matcher matcher = UPPER_BOUND.matcher(rs.getString(2));
+                    if (matcher.find()) {
+                        bounds.put(rs.getString(1), Timestamp.valueOf(matcher.group(1)).toLocalDateTime());
+                    }
+                });
+        return bounds;
+    }
+
+    // relkind of the log table ("r" plain, "p" partitioned), or null when it does not exist yet
+    private static String logRelkind(JdbcTemplate template) {
+        List<String> kinds = template.queryForList(
+                "SELECT c.relkind::text FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE c.relname = 'log' AND n.nspname = current_schema()", String.class);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    // Upper bound of the log_legacy_bound constraint, or null when there is none (or it is not yet
+    // validated and validatedOnly is set)
+    private static LocalDateTime legacyBound(JdbcTemplate template, boolean validatedOnly) {
+        List<String> definitions = template.queryForList("SELECT pg_get_constraintdef(oid) FROM pg_constraint "
+                + "WHERE conrelid = 'log'::regclass AND conname = '" + LEGACY_BOUND + "'"
+                + (validatedOnly ? " AND convalidated" : ""), String.class);
+        if (definitions.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = CHECK_BOUND.matcher(definitions.get(0));
+        return matcher.find() ? Timestamp.valueOf(matcher.group(1)).toLocalDateTime() : null;
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (Exception e) {
+            logger.warn("Could not determine database product, skipping log partition maintenance", e);
+            return false;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.babypal.controllers;
 
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LogSearchCriteria;
 import com.babypal.dtos.UserDTO;
-import com.babypal.models.Baby;
 import com.babypal.models.GrowthGuide;
 import com.babypal.models.Log;
 import com.babypal.models.Measurement;
@@ -10,22 +12,29 @@ import com.babypal.models.Role;
 import com.babypal.models.User;
 // import com.babypal.repositories.GrowthGuideRepository;
 import com.babypal.repositories.RoleRepository;
+import com.babypal.security.services.UserDetailsCache;
+import com.babypal.services.AdminListingService;
 import com.babypal.services.BabyService;
 import com.babypal.services.GrowthGuideService;
 import com.babypal.services.LogService;
 import com.babypal.services.MeasurementService;
 import com.babypal.services.RecordService;
 import com.babypal.services.UserService;
+import com.babypal.util.AuthUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -53,6 +62,17 @@ public class AdminController {
     @Autowired
     private LogService logService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private AdminListingService adminListingService;
+
+    @Autowired
+    private AuthUtil authUtil;
+
+    private static final String NDJSON = "application/x-ndjson";
+
     // @Autowired
     // private GrowthGuideRepository growthGuideRepository;
 
@@ -68,8 +88,7 @@ public class AdminController {
         userService.updateUserRole(userId, roleName);
         
         // Log admin action
-        User admin = userService.findByUsername(adminDetails.getUsername());
-        logService.logAdminAction(adminDetails.getUsername(), admin.getUserId(), 
+        logService.logAdminAction(adminDetails.getUsername(), authUtil.userIdOf(adminDetails.getUsername()), 
                                 "UPDATE_USER_ROLE", "USER", userId);
         
         return ResponseEntity.ok("User role updated");
@@ -86,8 +105,7 @@ public class AdminController {
         userService.updateAccountLockStatus(userId, lock);
         
         // Log admin action
-        User admin = userService.findByUsername(adminDetails.getUsername());
-        logService.logAdminAction(adminDetails.getUsername(), admin.getUserId(), 
+        logService.logAdminAction(adminDetails.getUsername(), authUtil.userIdOf(adminDetails.getUsername()), 
                                 "UPDATE_LOCK_STATUS", "USER", userId);
         
         return ResponseEntity.ok("Account lock status updated");
@@ -110,8 +128,7 @@ public class AdminController {
         userService.updateAccountEnabledStatus(userId, enabled);
         
         // Log admin action
-        User admin = userService.findByUsername(adminDetails.getUsername());
-        logService.logAdminAction(adminDetails.getUsername(), admin.getUserId(), 
+        logService.logAdminAction(adminDetails.getUsername(), authUtil.userIdOf(adminDetails.getUsername()), 
                                 "UPDATE_ENABLED_STATUS", "USER", userId);
         
         return ResponseEntity.ok("Account enabled status updated");
@@ -134,8 +151,11 @@ public class AdminController {
     }
 
     @GetMapping("/get-babies")
-    public ResponseEntity<List<Baby>> getAllBabies() {
-        return new ResponseEntity<>(babyService.getAllBabies(), HttpStatus.OK);
+    public ResponseEntity<List<?>> getAllBabies(@RequestParam(defaultValue = "false") boolean includeChildren) {
+        if (includeChildren) {
+            return new ResponseEntity<>(babyService.getAllBabies(), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(babyService.getAllBabySummaries(), HttpStatus.OK);
     }
 
     @GetMapping("/get-records")
@@ -188,11 +208,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/auth-cache/stats")
+    public ResponseEntity<Map<String, Long>> getAuthCacheStats() {
+        return new ResponseEntity<>(userDetailsCache.getStats(), HttpStatus.OK);
+    }
+
     @GetMapping("/logs")
     public ResponseEntity<List<Log>> getAllLogs() {
         return new ResponseEntity<>(logService.getAllLogs(), HttpStatus.OK);
     }
 
+    // e.g. failed sign-ins for a user in the last day:
+    // /logs/search?username=alice&action=SIGN_IN_FAILED&from=2025-01-01T09:00:00
+    @GetMapping("/logs/search")
+    public ResponseEntity<CursorPage<Log>> searchLogs(LogSearchCriteria criteria,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(logService.searchLogs(criteria, cursor, limit), HttpStatus.OK);
+    }
+
     @GetMapping("/logs/{logId}")
     public ResponseEntity<Log> getLogById(@PathVariable Long logId) {
         try {
@@ -203,4 +237,104 @@ public class AdminController {
         }
     }
 
+    // Cursor-paginated listings ordered by id (sort=asc|desc); the /stream variants write every
+    // matching row as NDJSON straight from a database cursor
+
+    @GetMapping("/users")
+    public ResponseEntity<CursorPage<User>> getUsersPage(@RequestParam(required = false) String userName,
+                                                         @RequestParam(required = false) Boolean enabled,
+                                                         @RequestParam(defaultValue = "asc") String sort,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(adminListingService.getUsers(userName, enabled, direction(sort),
+                cursor, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/users/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(required = false) String userName,
+                                                             @RequestParam(required = false) Boolean enabled,
+                                                             @RequestParam(defaultValue = "asc") String sort) {
+        return ndjson(adminListingService.streamUsers(userName, enabled, direction(sort)));
+    }
+
+    @GetMapping("/babies")
+    public ResponseEntity<CursorPage<BabySummaryDTO>> getBabiesPage(@RequestParam(required = false) String owner,
+                                                                    @RequestParam(defaultValue = "asc") String sort,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(adminListingService.getBabies(owner, direction(sort), cursor, limit),
+                HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/babies/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamBabies(@RequestParam(required = false) String owner,
+                                                              @RequestParam(defaultValue = "asc") String sort) {
+        return ndjson(adminListingService.streamBabies(owner, direction(sort)));
+    }
+
+    @GetMapping("/records")
+    public ResponseEntity<CursorPage<Record>> getRecordsPage(@RequestParam(required = false) Long babyId,
+                                                             @RequestParam(required = false) String type,
+                                                             @RequestParam(required = false) String author,
+                                                             @RequestParam(defaultValue = "asc") String sort,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(adminListingService.getRecords(babyId, type, author,
+                direction(sort), cursor, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/records/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamRecords(@RequestParam(required = false) Long babyId,
+                                                               @RequestParam(required = false) String type,
+                                                               @RequestParam(required = false) String author,
+                                                               @RequestParam(defaultValue = "asc") String sort) {
+        return ndjson(adminListingService.streamRecords(babyId, type, author, direction(sort)));
+    }
+
+    @GetMapping("/measurements")
+    public ResponseEntity<CursorPage<Measurement>> getMeasurementsPage(@RequestParam(required = false) Long babyId,
+                                                                       @RequestParam(required = false) String author,
+                                                                       @RequestParam(defaultValue = "asc") String sort,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(adminListingService.getMeasurements(babyId, author,
+                direction(sort), cursor, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/measurements/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamMeasurements(@RequestParam(required = false) Long babyId,
+                                                                    @RequestParam(required = false) String author,
+                                                                    @RequestParam(defaultValue = "asc") String sort) {
+        return ndjson(adminListingService.streamMeasurements(babyId, author, direction(sort)));
+    }
+
+    @GetMapping("/logs/page")
+    public ResponseEntity<CursorPage<Log>> getLogsPage(@RequestParam(required = false) String username,
+                                                       @RequestParam(required = false) String action,
+                                                       @RequestParam(required = false) String type,
+                                                       @RequestParam(defaultValue = "desc") String sort,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "100") int limit) {
+        return new ResponseEntity<>(adminListingService.getLogs(username, action, type,
+                direction(sort), cursor, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/logs/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamLogs(@RequestParam(required = false) String username,
+                                                            @RequestParam(required = false) String action,
+                                                            @RequestParam(required = false) String type,
+                                                            @RequestParam(defaultValue = "asc") String sort) {
+        return ndjson(adminListingService.streamLogs(username, action, type, direction(sort)));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    // Checked up front so a typo is a 400 naming the parameter rather than whatever the parser throws
+    private static Sort.Direction direction(String sort) {
+        return Sort.Direction.fromOptionalString(sort)
+                .orElseThrow(() -> new RuntimeException("sort must be asc or desc"));
+    }
+
 }
@@ -1,7 +1,17 @@
 package com.babypal.controllers;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,19 +21,46 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LatestMeasurementDTO;
+import com.babypal.dtos.RecordBatchResultDTO;
+import com.babypal.dtos.TimelineEntry;
 import com.babypal.models.Baby;
+import com.babypal.models.GrowthGuide;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
 import com.babypal.services.BabyService;
+import com.babypal.services.ExportService;
+import com.babypal.services.GrowthGuideService;
+import com.babypal.services.MeasurementService;
+import com.babypal.services.RecordService;
+import com.babypal.services.TimelineService;
 
 @RestController
 @RequestMapping("/api/babies")
 public class BabyController {
 
     private final BabyService babyService;
+    private final GrowthGuideService growthGuideService;
+    private final RecordService recordService;
+    private final MeasurementService measurementService;
+    private final ExportService exportService;
+    private final TimelineService timelineService;
 
-    public BabyController(BabyService babyService) {
+    public BabyController(BabyService babyService, GrowthGuideService growthGuideService,
+            RecordService recordService, MeasurementService measurementService, ExportService exportService,
+            TimelineService timelineService) {
         this.babyService = babyService;
+        this.growthGuideService = growthGuideService;
+        this.recordService = recordService;
+        this.measurementService = measurementService;
+        this.exportService = exportService;
+        this.timelineService = timelineService;
     }
 
     @PostMapping
@@ -34,18 +71,116 @@ public class BabyController {
     }
 
     @GetMapping
-    public List<Baby> getBabies(@AuthenticationPrincipal UserDetails userDetails) {
+    public List<?> getBabies(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "false") boolean includeGrowthGuide,
+            @RequestParam(defaultValue = "false") boolean includeChildren) {
         String username = userDetails.getUsername();
-        return babyService.getAllBabiesByUsername(username);
+        if (includeChildren) {
+            List<Baby> babies = babyService.getAllBabiesByUsername(username);
+            if (includeGrowthGuide) {
+                babies.forEach(baby -> baby.setCurrentGrowthGuideId(currentGrowthGuideId(baby.getDateOfBirth())));
+            }
+            return babies;
+        }
+
+        List<BabySummaryDTO> summaries = babyService.getBabySummariesByUsername(username);
+        if (includeGrowthGuide) {
+            summaries.forEach(summary -> summary.setCurrentGrowthGuideId(currentGrowthGuideId(summary.getDateOfBirth())));
+        }
+        return summaries;
     }
 
     @GetMapping("/{babyId}")
-    public Baby getBabyById(@PathVariable Long babyId, @AuthenticationPrincipal UserDetails userDetails) {
+    public Baby getBabyById(@PathVariable Long babyId, @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "false") boolean includeGrowthGuide) {
         String username = userDetails.getUsername();
         Baby baby = babyService.getBabyById(babyId, username);
+        if (includeGrowthGuide) {
+            baby.setCurrentGrowthGuideId(currentGrowthGuideId(baby.getDateOfBirth()));
+        }
         return baby;
     }
 
+    @GetMapping("/{babyId}/growth-guide")
+    public GrowthGuide getCurrentGrowthGuide(@PathVariable Long babyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate referenceDate,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Baby baby = babyService.getBabyById(babyId, userDetails.getUsername());
+        if (baby.getDateOfBirth() == null) {
+            throw new RuntimeException("Baby has no date of birth");
+        }
+        return growthGuideService.getGrowthGuideForAge(baby.getDateOfBirth().toLocalDate(), referenceDate);
+    }
+
+    @GetMapping("/{babyId}/records")
+    public CursorPage<Record> getRecords(@PathVariable Long babyId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String subType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return recordService.getRecordsByBabyId(babyId, userDetails.getUsername(), type, subType, from, to,
+                cursor, limit);
+    }
+
+    // Records and measurements merged newest first; pass nextCursor back as cursor for the following page
+    @GetMapping("/{babyId}/timeline")
+    public CursorPage<TimelineEntry> getTimeline(@PathVariable Long babyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return timelineService.getTimeline(babyId, userDetails.getUsername(), cursor, limit);
+    }
+
+    @PostMapping("/{babyId}/records:batch")
+    public RecordBatchResultDTO createRecordsBatch(@PathVariable Long babyId,
+            @RequestBody List<Record> records,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return recordService.createRecordsBatch(babyId, records, userDetails.getUsername());
+    }
+
+    @GetMapping("/{babyId}/measurements")
+    public CursorPage<Measurement> getMeasurements(@PathVariable Long babyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return measurementService.getMeasurementsByBabyId(babyId, userDetails.getUsername(), from, to, cursor, limit);
+    }
+
+    @GetMapping("/{babyId}/measurements/latest")
+    public LatestMeasurementDTO getLatestMeasurement(@PathVariable Long babyId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return measurementService.getLatestMeasurementByBabyId(babyId, userDetails.getUsername());
+    }
+
+    // format=ndjson|csv; gzip=true sends a .gz file. Rows are written as they are read from the database
+    @GetMapping("/{babyId}/export")
+    public ResponseEntity<StreamingResponseBody> exportBaby(@PathVariable Long babyId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        ExportService.Format exportFormat = exportFormat(format);
+        StreamingResponseBody body = exportService.exportBaby(babyId, userDetails.getUsername(), exportFormat, gzip);
+
+        String filename = "baby-" + babyId + (exportFormat == ExportService.Format.CSV ? ".csv" : ".ndjson");
+        MediaType contentType = exportFormat == ExportService.Format.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        if (gzip) {
+            filename += ".gz";
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @PutMapping("/{babyId}")
     public Baby updateBaby(@PathVariable Long babyId,
             @RequestBody Baby babyDetails,
@@ -62,4 +197,22 @@ public class BabyController {
 
         babyService.deleteBaby(babyId, username);
     }
+
+    private Long currentGrowthGuideId(LocalDateTime dateOfBirth) {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Singapore"));
+        if (dateOfBirth == null || dateOfBirth.toLocalDate().isAfter(today)) {
+            return null;
+        }
+        long ageInMonths = ChronoUnit.MONTHS.between(dateOfBirth.toLocalDate(), today);
+        GrowthGuide guide = growthGuideService.getCatalog().findByAgeInMonths(ageInMonths);
+        return guide != null ? guide.getId() : null;
+    }
+
+    // Checked up front so an unknown format is a 400 naming the accepted values
+    private static ExportService.Format exportFormat(String format) {
+        return Arrays.stream(ExportService.Format.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("format must be ndjson or csv"));
+    }
 }
@@ -1,27 +1,36 @@
 package com.babypal.controllers;
 
-import java.util.List;
+import java.time.LocalDate;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.babypal.dtos.GrowthGuideCatalog;
 import com.babypal.models.GrowthGuide;
-import com.babypal.repositories.GrowthGuideRepository;
 import com.babypal.services.GrowthGuideService;
 
 @RestController
 @RequestMapping("/api/growth-guides")
 public class GrowthGuideController {
     private final GrowthGuideService growthGuideService;
-    private final GrowthGuideRepository growthGuideRepository;
 
-    public GrowthGuideController(GrowthGuideService growthGuideService, GrowthGuideRepository growthGuideRepository) {
+    public GrowthGuideController(GrowthGuideService growthGuideService) {
         this.growthGuideService = growthGuideService;
-        this.growthGuideRepository = growthGuideRepository;
+    }
+
+    @GetMapping("/by-age")
+    public GrowthGuide getGrowthGuideByAge(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateOfBirth,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate referenceDate) {
+        return growthGuideService.getGrowthGuideForAge(dateOfBirth, referenceDate);
     }
 
     @GetMapping("/{growthGuideId}")
@@ -30,8 +39,17 @@ public class GrowthGuideController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GrowthGuide>> getAllGrowthGuides() {
-        return new ResponseEntity<>(growthGuideRepository.findAll(), HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllGrowthGuides(WebRequest webRequest) {
+        GrowthGuideCatalog catalog = growthGuideService.getCatalog();
+        // Sets the 304 status and ETag header itself when If-None-Match matches
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getJson());
     }
 
 }
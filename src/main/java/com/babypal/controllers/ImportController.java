@@ -0,0 +1,44 @@
+package com.babypal.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.babypal.dtos.ImportJobDTO;
+import com.babypal.services.ImportService;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final ImportService importService;
+
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    // Returns as soon as the file is stored; poll GET /api/imports/{jobId} for progress
+    @PostMapping
+    public ResponseEntity<ImportJobDTO> startImport(@RequestParam Long babyId,
+            @RequestParam ImportJobDTO.Kind kind,
+            @RequestParam(required = false) ImportJobDTO.Format format,
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        ImportJobDTO job = importService.startImport(babyId, kind, format, file, userDetails.getUsername());
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{jobId}")
+    public ImportJobDTO getImportJob(@PathVariable String jobId, @AuthenticationPrincipal UserDetails userDetails) {
+        return importService.getImportJob(jobId, userDetails.getUsername());
+    }
+}
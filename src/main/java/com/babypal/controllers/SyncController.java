@@ -0,0 +1,30 @@
+package com.babypal.controllers;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.babypal.dtos.SyncResponseDTO;
+import com.babypal.services.SyncService;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    // Omit since for the first sync, then send back the watermark from the previous response
+    @GetMapping
+    public SyncResponseDTO sync(
+            @RequestParam(required = false) String since,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return syncService.getChangesSince(userDetails.getUsername(), since);
+    }
+}
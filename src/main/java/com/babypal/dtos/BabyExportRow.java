@@ -0,0 +1,36 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * One line of a baby export. The first row is the baby itself ({@code time} is the date of birth and
+ * the measurements are the birth values); after it come records and measurements in time order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "kind", "id", "time", "endTime", "name", "gender", "type", "subType", "note",
+        "weight", "height", "headCircumference", "author" })
+public record BabyExportRow(
+        Kind kind,
+        Long id,
+        LocalDateTime time,
+        LocalDateTime endTime,
+        String name,
+        String gender,
+        String type,
+        String subType,
+        String note,
+        Double weight,
+        Double height,
+        Double headCircumference,
+        String author) {
+
+    public enum Kind {
+        BABY, RECORD, MEASUREMENT
+    }
+
+    public static final String CSV_HEADER =
+            "kind,id,time,endTime,name,gender,type,subType,note,weight,height,headCircumference,author";
+}
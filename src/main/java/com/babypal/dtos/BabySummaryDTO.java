@@ -0,0 +1,64 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Baby columns plus record/measurement counts and the most recent measurement, loaded in one query
+ * instead of serializing the child collections.
+ */
+@Data
+@NoArgsConstructor
+public class BabySummaryDTO {
+    private Long id;
+    private String name;
+    private String gender;
+    private LocalDateTime dateOfBirth;
+    private Double weight;
+    private Double height;
+    private Double headCircumference;
+    private List<String> caregivers;
+    private String owner;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long recordCount;
+    private long measurementCount;
+    private LatestMeasurement latestMeasurement;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long currentGrowthGuideId;
+
+    // Used by the constructor expression in BabyRepository
+    public BabySummaryDTO(Long id, String name, String gender, LocalDateTime dateOfBirth, Double weight,
+            Double height, Double headCircumference, List<String> caregivers, String owner,
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long recordCount, Long measurementCount,
+            Long latestMeasurementId, LocalDateTime latestMeasurementTime, Double latestWeight,
+            Double latestHeight, Double latestHeadCircumference) {
+        this.id = id;
+        this.name = name;
+        this.gender = gender;
+        this.dateOfBirth = dateOfBirth;
+        this.weight = weight;
+        this.height = height;
+        this.headCircumference = headCircumference;
+        this.caregivers = caregivers;
+        this.owner = owner;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.recordCount = recordCount != null ? recordCount : 0;
+        this.measurementCount = measurementCount != null ? measurementCount : 0;
+        if (latestMeasurementId != null) {
+            this.latestMeasurement = new LatestMeasurement(latestMeasurementId, latestMeasurementTime,
+                    latestWeight, latestHeight, latestHeadCircumference);
+        }
+    }
+
+    public record LatestMeasurement(Long id, LocalDateTime time, Double weight, Double height,
+            Double headCircumference) {
+    }
+}
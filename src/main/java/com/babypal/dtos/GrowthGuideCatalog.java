@@ -0,0 +1,133 @@
+package com.babypal.dtos;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.babypal.models.GrowthGuide;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the growth guides, together with the serialized JSON body and a strong ETag
+ * derived from it. A new snapshot is built whenever the guides change; readers never see a partial one.
+ */
+@Getter
+public final class GrowthGuideCatalog {
+    private final List<GrowthGuide> guides;
+    private final Map<Long, GrowthGuide> guidesById;
+    @Getter(lombok.AccessLevel.NONE)
+    private final GrowthGuide[] guidesByMonth;
+    private final byte[] json;
+    private final String etag;
+    private final long loadedAtNanos;
+
+    private GrowthGuideCatalog(List<GrowthGuide> guides, byte[] json, String etag) {
+        this.guides = guides;
+        this.guidesById = guides.stream()
+                .collect(Collectors.toUnmodifiableMap(GrowthGuide::getId, Function.identity()));
+        this.guidesByMonth = indexByMonth(guides);
+        this.json = json;
+        this.etag = etag;
+        this.loadedAtNanos = System.nanoTime();
+    }
+
+    public static GrowthGuideCatalog of(List<GrowthGuide> source, ObjectMapper objectMapper) {
+        // Copy so later changes to managed entities can't leak into the snapshot
+        List<GrowthGuide> guides = source.stream()
+                .sorted(Comparator.comparing(GrowthGuide::getId))
+                .map(GrowthGuideCatalog::copyOf)
+                .toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(guides);
+            return new GrowthGuideCatalog(guides, json, sha256Hex(json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize growth guides", e);
+        }
+    }
+
+    /**
+     * Returns the JSON body; callers must not modify the array.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Returns the guide for a baby of the given age in completed months, or {@code null} if there are no
+     * guides. Ages past the last guide resolve to the last guide.
+     */
+    public GrowthGuide findByAgeInMonths(long ageInMonths) {
+        if (guidesByMonth.length == 0) {
+            return null;
+        }
+        int month = (int) Math.max(0, Math.min(ageInMonths, guidesByMonth.length - 1));
+        return guidesByMonth[month];
+    }
+
+    // Month ranges are seeded as "0-1 months", "12 months", ... so the leading number is the first month
+    // a guide covers. Months without their own guide fall back to the closest earlier one.
+    private static GrowthGuide[] indexByMonth(List<GrowthGuide> guides) {
+        TreeMap<Integer, GrowthGuide> byStartMonth = new TreeMap<>();
+        for (GrowthGuide guide : guides) {
+            Integer startMonth = parseStartMonth(guide.getMonthRange());
+            if (startMonth != null) {
+                byStartMonth.putIfAbsent(startMonth, guide);
+            }
+        }
+        if (byStartMonth.isEmpty()) {
+            return new GrowthGuide[0];
+        }
+
+        int lastMonth = byStartMonth.lastKey();
+        GrowthGuide[] index = new GrowthGuide[lastMonth + 1];
+        GrowthGuide current = byStartMonth.values().iterator().next();
+        for (int month = 0; month <= lastMonth; month++) {
+            current = byStartMonth.getOrDefault(month, current);
+            index[month] = current;
+        }
+        return index;
+    }
+
+    private static Integer parseStartMonth(String monthRange) {
+        if (monthRange == null) {
+            return null;
+        }
+        int end = 0;
+        while (end < monthRange.length() && Character.isDigit(monthRange.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? null : Integer.valueOf(monthRange.substring(0, end));
+    }
+
+    private static GrowthGuide copyOf(GrowthGuide guide) {
+        return GrowthGuide.builder()
+                .id(guide.getId())
+                .monthRange(guide.getMonthRange())
+                .ageDescription(guide.getAgeDescription())
+                .physicalDevelopment(copyOf(guide.getPhysicalDevelopment()))
+                .cognitiveSocial(copyOf(guide.getCognitiveSocial()))
+                .motorSkills(copyOf(guide.getMotorSkills()))
+                .build();
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : List.copyOf(values);
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of a historical import job. Row numbers count data rows from 1, not including a CSV header.
+ * Only the first few row errors are kept; {@code errorsTruncated} says whether more were dropped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+    private String id;
+    private Long babyId;
+    private Kind kind;
+    private Format format;
+    private Status status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsSkipped;
+    private long rowsFailed;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Kind {
+        RECORDS, MEASUREMENTS
+    }
+
+    public enum Format {
+        CSV, JSON
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    public record RowError(long row, String message) {
+    }
+}
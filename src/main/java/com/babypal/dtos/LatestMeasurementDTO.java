@@ -0,0 +1,22 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Most recent value of each measurement kind for one baby; a measurement may only record some of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatestMeasurementDTO {
+    private Double weight;
+    private LocalDateTime weightTime;
+    private Double height;
+    private LocalDateTime heightTime;
+    private Double headCircumference;
+    private LocalDateTime headCircumferenceTime;
+}
@@ -0,0 +1,28 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters for the audit log search; bound from query parameters. {@code from} is inclusive and
+ * {@code to} exclusive, both in the Asia/Singapore local time the log is written in.
+ */
+@Data
+@NoArgsConstructor
+public class LogSearchCriteria {
+    private String username;
+    private String type;
+    private Long typeId;
+    private String action;
+    private String statusCode;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
@@ -0,0 +1,29 @@
+package com.babypal.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a batch record upload, with one entry per submitted record in submission order.
+ * A DUPLICATE entry carries the id of the record that already holds its client key; DELETED means that
+ * record has since been deleted and the entry was not stored again. {@code duplicates} counts both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordBatchResultDTO {
+    private int created;
+    private int duplicates;
+    private int rejected;
+    private List<Item> results;
+
+    public enum Status {
+        CREATED, DUPLICATE, DELETED, REJECTED
+    }
+
+    public record Item(int index, String clientKey, Status status, Long id, String error) {
+    }
+}
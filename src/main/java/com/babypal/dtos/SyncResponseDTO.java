@@ -0,0 +1,31 @@
+package com.babypal.dtos;
+
+import java.util.List;
+
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.models.Tombstone;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changes visible to one user since a watermark. Pass the opaque {@code watermark} back unchanged as
+ * {@code since} on the next call; while {@code hasMore} is true, call again straight away. Items may
+ * repeat across calls and should be applied as upserts. When {@code fullResyncRequired} is true the
+ * watermark is older than the deletes still on record, or the user was given access to a baby whose
+ * history predates it, so the client should drop its copy and start again without {@code since}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponseDTO {
+    private String watermark;
+    private boolean hasMore;
+    private boolean fullResyncRequired;
+    private List<BabySummaryDTO> babies;
+    private List<Record> records;
+    private List<Measurement> measurements;
+    private List<Tombstone> deleted;
+}
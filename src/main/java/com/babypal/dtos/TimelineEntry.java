@@ -0,0 +1,38 @@
+package com.babypal.dtos;
+
+import java.time.LocalDateTime;
+
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One item of a baby's timeline: exactly one of {@code record} and {@code measurement} is set, and
+ * {@code time} is its start time or measurement time.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineEntry {
+    private final Kind kind;
+    private final Long id;
+    private final LocalDateTime time;
+    private final Record record;
+    private final Measurement measurement;
+
+    // Declaration order is the tie-break order when a record and a measurement share a timestamp
+    public enum Kind {
+        RECORD, MEASUREMENT
+    }
+
+    public static TimelineEntry of(Record record) {
+        return new TimelineEntry(Kind.RECORD, record.getId(), record.getStartTime(), record, null);
+    }
+
+    public static TimelineEntry of(Measurement measurement) {
+        return new TimelineEntry(Kind.MEASUREMENT, measurement.getId(), measurement.getTime(), null, measurement);
+    }
+}
@@ -0,0 +1,59 @@
+package com.babypal.models;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The counterpart of {@link Tombstone}: a user gained access to a baby (as caregiver or owner) at
+ * {@code grantedAt}. The baby's existing history is older than that user's sync watermark, so delta
+ * sync uses this to tell their devices to resync instead of showing the baby without it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "access_grant", indexes = {
+        @Index(name = "idx_access_grant_username_granted_at", columnList = "username, granted_at")
+})
+public class AccessGrant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "access_grant_seq")
+    @SequenceGenerator(name = "access_grant_seq", sequenceName = "access_grant_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "baby_id", nullable = false)
+    private Long babyId;
+
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    @Column(name = "granted_at", nullable = false)
+    private LocalDateTime grantedAt;
+
+    public static AccessGrant of(Long babyId, String username) {
+        return AccessGrant.builder()
+                .babyId(babyId)
+                .username(username)
+                .grantedAt(ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime())
+                .build();
+    }
+}
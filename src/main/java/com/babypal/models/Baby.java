@@ -11,15 +11,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,11 +41,16 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "baby")
+@SQLRestriction("deleted_at is null")
+@Table(name = "baby", indexes = {
+        @Index(name = "idx_baby_owner", columnList = "owner"),
+        @Index(name = "idx_baby_updated_at", columnList = "updated_at")
+})
 
 public class Baby {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "baby_seq")
+    @SequenceGenerator(name = "baby_seq", sequenceName = "baby_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -66,6 +80,16 @@ public class Baby {
     @Column(name = "owner")
     private String owner;
 
+    // Set instead of removing the row; every entity query skips it and SoftDeletePurger removes it later
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
+    // Only populated when a client asks for it (includeGrowthGuide=true)
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long currentGrowthGuideId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Setter(lombok.AccessLevel.NONE)
     private LocalDateTime createdAt;
@@ -89,10 +113,13 @@ public class Baby {
         updatedAt = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
     }
 
+    // Batch-loaded so that serializing a list of babies with children is not one query per baby
     @OneToMany(mappedBy = "baby", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     private List<Record> records;
 
     @OneToMany(mappedBy = "baby", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     private List<Measurement> measurements;
 
 }
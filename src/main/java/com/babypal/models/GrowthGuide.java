@@ -7,7 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 
@@ -27,7 +27,8 @@ import com.babypal.converters.StringListConverter;
 @Table(name = "growth_guide")
 public class GrowthGuide {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "growth_guide_seq")
+    @SequenceGenerator(name = "growth_guide_seq", sequenceName = "growth_guide_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
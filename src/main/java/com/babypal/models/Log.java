@@ -9,7 +9,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 
@@ -25,10 +27,17 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "log")
+// Each index ends in created_at so a filtered search reads its newest rows first and stops at the page size
+@Table(name = "log", indexes = {
+        @Index(name = "idx_log_username_action_created_at", columnList = "username, action, created_at"),
+        @Index(name = "idx_log_action_created_at", columnList = "action, created_at"),
+        @Index(name = "idx_log_type_type_id_created_at", columnList = "type, type_id, created_at"),
+        @Index(name = "idx_log_created_at", columnList = "created_at")
+})
 public class Log {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_seq")
+    @SequenceGenerator(name = "log_seq", sequenceName = "log_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -47,13 +56,18 @@ public class Log {
     @Column(name = "status_code")
     private String statusCode;
 
+    // Number of reads this row stands for when reads are sampled or aggregated; null means one
+    @Column(name = "event_count")
+    private Long eventCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Setter(lombok.AccessLevel.NONE)
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
-        createdAt = now;
+        if (createdAt == null) {
+            createdAt = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.babypal.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An audit entry written in the same transaction as the entity change it describes.
+ * {@code LogOutboxRelay} moves these rows into {@code log} in batches, so the audit trail
+ * only ever contains changes that actually committed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "log_outbox")
+public class LogOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_outbox_seq")
+    @SequenceGenerator(name = "log_outbox_seq", sequenceName = "log_outbox_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "username")
+    private String username;
+
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "type_id")
+    private Long typeId;
+
+    @Column(name = "action")
+    private String action;
+
+    @Column(name = "status_code")
+    private String statusCode;
+
+    @Column(name = "event_count")
+    private Long eventCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static LogOutbox from(Log log) {
+        return LogOutbox.builder()
+                .username(log.getUsername())
+                .type(log.getType())
+                .typeId(log.getTypeId())
+                .action(log.getAction())
+                .statusCode(log.getStatusCode())
+                .eventCount(log.getEventCount())
+                .createdAt(log.getCreatedAt())
+                .build();
+    }
+
+    public Log toLog() {
+        return Log.builder()
+                .username(username)
+                .type(type)
+                .typeId(typeId)
+                .action(action)
+                .statusCode(statusCode)
+                .eventCount(eventCount)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -5,18 +5,23 @@ import java.time.ZonedDateTime;
 import java.time.ZoneId;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,11 +34,16 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "measurement")
+@SQLRestriction("deleted_at is null")
+@Table(name = "measurement", indexes = {
+        @Index(name = "idx_measurement_baby_time", columnList = "baby, time, id"),
+        @Index(name = "idx_measurement_baby_updated_at", columnList = "baby, updated_at")
+})
 
 public class Measurement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "measurement_seq")
+    @SequenceGenerator(name = "measurement_seq", sequenceName = "measurement_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -52,6 +62,11 @@ public class Measurement {
     @Column(name = "head_circumference")
     private Double headCircumference;
 
+    // Soft delete marker, see Baby.deletedAt
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Setter(lombok.AccessLevel.NONE)
     private LocalDateTime createdAt;
@@ -80,4 +95,9 @@ public class Measurement {
     @JoinColumn(name = "baby", referencedColumnName = "id")
     private Baby baby;
 
+    // Serialized so measurements from several babies (e.g. in a sync response) can be told apart
+    public Long getBabyId() {
+        return baby != null ? baby.getId() : null;
+    }
+
 }
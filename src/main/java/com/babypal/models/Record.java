@@ -5,19 +5,25 @@ import java.time.ZonedDateTime;
 import java.time.ZoneId;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,11 +36,18 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "record")
+@SQLRestriction("deleted_at is null")
+@Table(name = "record", indexes = {
+        @Index(name = "idx_record_baby_start_time", columnList = "baby, start_time, id"),
+        @Index(name = "idx_record_baby_updated_at", columnList = "baby, updated_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_record_baby_client_key", columnNames = {"baby", "client_key"})
+})
 
 public class Record {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "record_seq")
+    @SequenceGenerator(name = "record_seq", sequenceName = "record_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -57,6 +70,15 @@ public class Record {
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
+    // Idempotency key chosen by the client for offline-queued entries; unique per baby
+    @Column(name = "client_key", length = 64)
+    private String clientKey;
+
+    // Soft delete marker, see Baby.deletedAt
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Setter(lombok.AccessLevel.NONE)
     private LocalDateTime createdAt;
@@ -85,5 +107,10 @@ public class Record {
     @JoinColumn(name = "baby", referencedColumnName = "id")
     private Baby baby;
 
+    // Serialized so records from several babies (e.g. in a sync response) can be told apart
+    public Long getBabyId() {
+        return baby != null ? baby.getId() : null;
+    }
+
 
 }
@@ -0,0 +1,37 @@
+package com.babypal.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Content hash of the last seed resource applied for a reference table, so seeding only runs when the
+ * resource actually changes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "seed_version")
+public class SeedVersion {
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,88 @@
+package com.babypal.models;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Marks an entity that is gone for some users so delta sync can tell their devices to drop it.
+ * {@code audience} holds the users who could see the entity at the time, since after the delete
+ * there is no baby left to work that out from.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tombstone", indexes = {
+        @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at")
+})
+public class Tombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tombstone_seq")
+    @SequenceGenerator(name = "tombstone_seq", sequenceName = "tombstone_seq", allocationSize = 50)
+    @Column(name = "id")
+    @JsonIgnore
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "baby_id")
+    private Long babyId;
+
+    @Column(name = "audience")
+    @JsonIgnore
+    private List<String> audience;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static Tombstone of(String entityType, Long entityId, Long babyId, List<String> audience) {
+        return Tombstone.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .babyId(babyId)
+                .audience(audience)
+                .deletedAt(ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime())
+                .build();
+    }
+
+    /**
+     * Everyone who can currently see {@code baby}: its owner and caregivers.
+     */
+    public static List<String> audienceOf(Baby baby) {
+        Set<String> audience = new LinkedHashSet<>();
+        if (baby.getOwner() != null) {
+            audience.add(baby.getOwner());
+        }
+        if (baby.getCaregivers() != null) {
+            audience.addAll(baby.getCaregivers());
+        }
+        return List.copyOf(audience);
+    }
+}
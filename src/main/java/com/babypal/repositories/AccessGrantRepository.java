@@ -0,0 +1,19 @@
+package com.babypal.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.babypal.models.AccessGrant;
+
+public interface AccessGrantRepository extends JpaRepository<AccessGrant, Long> {
+
+    boolean existsByUsernameAndGrantedAtGreaterThanEqual(String username, LocalDateTime since);
+
+    @Modifying
+    @Query("delete from AccessGrant g where g.grantedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,51 @@
 package com.babypal.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.babypal.dtos.BabySummaryDTO;
 import com.babypal.models.Baby;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BabyRepository extends JpaRepository<Baby, Long>, JpaSpecificationExecutor<Baby> {
+
+    // Resolved in the database: owner hits idx_baby_owner and array_contains renders as
+    // "caregivers @> array[?]" on PostgreSQL, which is served by the GIN index on caregivers.
+    @Query("select b from Baby b where b.owner = :username or array_contains(b.caregivers, :username) order by b.id")
+    List<Baby> findAllByOwnerOrCaregiver(@Param("username") String username);
+
+    @Query("select b.id from Baby b where b.owner = :username or array_contains(b.caregivers, :username)")
+    List<Long> findIdsByOwnerOrCaregiver(@Param("username") String username);
+
+    @Query("select b.id from Baby b where b.id in :ids and b.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("ids") Collection<Long> ids, @Param("since") LocalDateTime since);
+
+    String SUMMARY_SELECT = """
+            select new com.babypal.dtos.BabySummaryDTO(
+                b.id, b.name, b.gender, b.dateOfBirth, b.weight, b.height, b.headCircumference,
+                b.caregivers, b.owner, b.createdAt, b.updatedAt,
+                (select count(r) from Record r where r.baby = b),
+                (select count(c) from Measurement c where c.baby = b),
+                m.id, m.time, m.weight, m.height, m.headCircumference)
+            from Baby b
+            left join Measurement m on m.id = (
+                select l.id from Measurement l where l.baby = b order by l.time desc, l.id desc limit 1)
+            """;
+
+    // Single statement regardless of the number of babies; child collections are never touched
+    @Query(SUMMARY_SELECT + "where b.owner = :username or array_contains(b.caregivers, :username) order by b.id")
+    List<BabySummaryDTO> findSummariesByOwnerOrCaregiver(@Param("username") String username);
+
+    @Query(SUMMARY_SELECT + "order by b.id")
+    List<BabySummaryDTO> findAllSummaries();
 
-public interface BabyRepository extends JpaRepository<Baby, Long>{
+    @Query(SUMMARY_SELECT + "where b.id in :ids")
+    List<BabySummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids, Sort sort);
 
 }
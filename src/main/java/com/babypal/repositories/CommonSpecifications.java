@@ -0,0 +1,47 @@
+package com.babypal.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.babypal.util.KeysetCursor;
+
+/**
+ * Filters shared by the listings. A {@code null} value means "no filter".
+ */
+public final class CommonSpecifications {
+
+    private CommonSpecifications() {
+    }
+
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        return (root, query, cb) -> value == null ? null : cb.equal(root.get(attribute), value);
+    }
+
+    public static <T> Specification<T> containsIgnoreCase(String attribute, String value) {
+        return (root, query, cb) -> value == null || value.isBlank() ? null
+                : cb.like(cb.lower(root.get(attribute)), "%" + value.toLowerCase() + "%");
+    }
+
+    public static <T> Specification<T> babyIdEquals(Long babyId) {
+        return (root, query, cb) -> babyId == null ? null : cb.equal(root.get("baby").get("id"), babyId);
+    }
+
+    // Rows strictly after the cursor id in the given id order
+    public static <T> Specification<T> idAfter(String idAttribute, Long afterId, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (afterId == null) {
+                return null;
+            }
+            return direction.isAscending()
+                    ? cb.greaterThan(root.get(idAttribute), afterId)
+                    : cb.lessThan(root.get(idAttribute), afterId);
+        };
+    }
+
+    // Rows strictly after the cursor in (timeAttribute desc, id desc) order
+    public static <T> Specification<T> keysetAfter(String timeAttribute, KeysetCursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.or(
+                cb.lessThan(root.get(timeAttribute), cursor.time()),
+                cb.and(cb.equal(root.get(timeAttribute), cursor.time()), cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
@@ -0,0 +1,23 @@
+package com.babypal.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.babypal.models.LogOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface LogOutboxRepository extends JpaRepository<LogOutbox, Long> {
+
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED, so several instances can relay side by side
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from LogOutbox o order by o.id")
+    List<LogOutbox> findRelayBatch(Pageable pageable);
+}
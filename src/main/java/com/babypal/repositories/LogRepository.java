@@ -3,7 +3,8 @@ package com.babypal.repositories;
 import com.babypal.models.Log;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface LogRepository extends JpaRepository<Log, Long>{
+public interface LogRepository extends JpaRepository<Log, Long>, JpaSpecificationExecutor<Log> {
 
 }
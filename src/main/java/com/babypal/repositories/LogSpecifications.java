@@ -0,0 +1,24 @@
+package com.babypal.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.babypal.dtos.LogSearchCriteria;
+import com.babypal.models.Log;
+
+public final class LogSpecifications {
+
+    private LogSpecifications() {
+    }
+
+    public static Specification<Log> matching(LogSearchCriteria criteria) {
+        return CommonSpecifications.<Log>equalTo("username", criteria.getUsername())
+                .and(CommonSpecifications.equalTo("type", criteria.getType()))
+                .and(CommonSpecifications.equalTo("typeId", criteria.getTypeId()))
+                .and(CommonSpecifications.equalTo("action", criteria.getAction()))
+                .and(CommonSpecifications.equalTo("statusCode", criteria.getStatusCode()))
+                .and((root, query, cb) -> criteria.getFrom() == null ? null
+                        : cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.getFrom()))
+                .and((root, query, cb) -> criteria.getTo() == null ? null
+                        : cb.lessThan(root.get("createdAt"), criteria.getTo()));
+    }
+}
@@ -1,12 +1,37 @@
 package com.babypal.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.babypal.models.Measurement;
 
-public interface MeasurementRepository extends JpaRepository<Measurement, Long> {
+public interface MeasurementRepository extends JpaRepository<Measurement, Long>, JpaSpecificationExecutor<Measurement> {
 
     List<Measurement> findByAuthor(String username);
+
+    // Each of these reads the top of idx_measurement_baby_time instead of the baby's whole history
+    Optional<Measurement> findFirstByBabyIdAndWeightIsNotNullOrderByTimeDescIdDesc(Long babyId);
+
+    Optional<Measurement> findFirstByBabyIdAndHeightIsNotNullOrderByTimeDescIdDesc(Long babyId);
+
+    Optional<Measurement> findFirstByBabyIdAndHeadCircumferenceIsNotNullOrderByTimeDescIdDesc(Long babyId);
+
+    @Query("select m from Measurement m where m.baby.id in :babyIds "
+            + "and (m.updatedAt > :time or (m.updatedAt = :time and m.id > :id)) order by m.updatedAt, m.id")
+    List<Measurement> findChangedAfter(@Param("babyIds") Collection<Long> babyIds, @Param("time") LocalDateTime time,
+            @Param("id") Long id, Limit limit);
+
+    @Modifying
+    @Query("update Measurement m set m.deletedAt = :now, m.updatedAt = :now "
+            + "where m.baby.id = :babyId and m.deletedAt is null")
+    int markDeletedByBabyId(@Param("babyId") Long babyId, @Param("now") LocalDateTime now);
     
 }
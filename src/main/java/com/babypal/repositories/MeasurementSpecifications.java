@@ -0,0 +1,25 @@
+package com.babypal.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.babypal.models.Measurement;
+
+public final class MeasurementSpecifications {
+
+    private MeasurementSpecifications() {
+    }
+
+    public static Specification<Measurement> forBaby(Long babyId) {
+        return (root, query, cb) -> cb.equal(root.get("baby").get("id"), babyId);
+    }
+
+    public static Specification<Measurement> takenFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("time"), from);
+    }
+
+    public static Specification<Measurement> takenBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("time"), to);
+    }
+}
@@ -1,12 +1,37 @@
 package com.babypal.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.babypal.models.Record;
 
-public interface RecordRepository extends JpaRepository<Record, Long> {
+public interface RecordRepository extends JpaRepository<Record, Long>, JpaSpecificationExecutor<Record> {
 
     List<Record> findByAuthor(String username);
+
+    // Native so the @SQLRestriction on Record does not apply: soft-deleted records keep their client key
+    // reserved, otherwise a late replay of the original upload would bring a deleted record back
+    @Query(value = "select * from record where baby = :babyId and client_key in (:clientKeys)", nativeQuery = true)
+    List<Record> findByBabyIdAndClientKeyInIncludingDeleted(@Param("babyId") Long babyId,
+            @Param("clientKeys") Collection<String> clientKeys);
+
+    // Keyset over (r.updatedAt, r.id) so paging stays exact through rows sharing one timestamp
+    @Query("select r from Record r where r.baby.id in :babyIds "
+            + "and (r.updatedAt > :time or (r.updatedAt = :time and r.id > :id)) order by r.updatedAt, r.id")
+    List<Record> findChangedAfter(@Param("babyIds") Collection<Long> babyIds, @Param("time") LocalDateTime time,
+            @Param("id") Long id, Limit limit);
+
+    // One set-based update for a whole baby instead of loading every child through the cascade
+    @Modifying
+    @Query("update Record r set r.deletedAt = :now, r.updatedAt = :now "
+            + "where r.baby.id = :babyId and r.deletedAt is null")
+    int markDeletedByBabyId(@Param("babyId") Long babyId, @Param("now") LocalDateTime now);
     
 }
@@ -0,0 +1,33 @@
+package com.babypal.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.babypal.models.Record;
+
+public final class RecordSpecifications {
+
+    private RecordSpecifications() {
+    }
+
+    public static Specification<Record> forBaby(Long babyId) {
+        return (root, query, cb) -> cb.equal(root.get("baby").get("id"), babyId);
+    }
+
+    public static Specification<Record> hasType(String type) {
+        return (root, query, cb) -> type == null ? null : cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Record> hasSubType(String subType) {
+        return (root, query, cb) -> subType == null ? null : cb.equal(root.get("subType"), subType);
+    }
+
+    public static Specification<Record> startsFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("startTime"), from);
+    }
+
+    public static Specification<Record> startsBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("startTime"), to);
+    }
+}
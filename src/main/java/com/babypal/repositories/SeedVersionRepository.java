@@ -0,0 +1,9 @@
+package com.babypal.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.babypal.models.SeedVersion;
+
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, String> {
+
+}
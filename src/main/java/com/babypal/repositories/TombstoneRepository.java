@@ -0,0 +1,24 @@
+package com.babypal.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.babypal.models.Tombstone;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("select t from Tombstone t where (t.deletedAt > :time or (t.deletedAt = :time and t.id > :id)) "
+            + "and array_contains(t.audience, :username) order by t.deletedAt, t.id")
+    List<Tombstone> findVisibleAfter(@Param("username") String username, @Param("time") LocalDateTime time,
+            @Param("id") Long id, Limit limit);
+
+    @Modifying
+    @Query("delete from Tombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -5,6 +5,8 @@ import com.babypal.security.jwt.AuthTokenFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.babypal.config.OAuth2LoginSuccessHandler;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Lazy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +33,16 @@ import java.util.Map;
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true, jsr250Enabled = true)
 public class SecurityConfig {
+        // Shared with AuthTokenFilter, which defers JWT verification on these routes
+        public static final String[] PUBLIC_ROUTES = {
+                "/api/csrf-token",
+                "/api/auth/public/**",
+                "/api/growth-guides/**",
+                "/oauth2/**",
+                "/login/oauth2/**",
+                "/"
+        };
+
         @SuppressWarnings("unused")
         @Autowired
         private AuthEntryPointJwt unauthorizedHandler;
@@ -56,13 +68,11 @@ public class SecurityConfig {
                 //         .ignoringRequestMatchers("/api/auth/public/**"))
                 .authorizeHttpRequests((requests)
                 -> requests
+                // The initial request was already authorized; the completing async dispatch of a
+                // streaming response carries no JWT-derived context of its own
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/csrf-token").permitAll()
-                .requestMatchers("/api/auth/public/**").permitAll()
-                .requestMatchers("/api/growth-guides/**").permitAll()
-                .requestMatchers("/oauth2/**").permitAll()
-                .requestMatchers("/login/oauth2/**").permitAll()
-                .requestMatchers("/").permitAll()
+                .requestMatchers(PUBLIC_ROUTES).permitAll()
                 .anyRequest().authenticated())
                 .oauth2Login(oauth2 -> {
                     oauth2.successHandler(oAuth2LoginSuccessHandler);
@@ -1,6 +1,11 @@
 package com.babypal.security.jwt;
 
+import com.babypal.security.SecurityConfig;
+import com.babypal.security.services.TokenRevocationService;
+import com.babypal.security.services.UserDetailsCache;
+import com.babypal.security.services.UserDetailsImpl;
 import com.babypal.security.services.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,13 +14,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
@@ -25,34 +42,101 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
+    private static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(
+            Arrays.stream(SecurityConfig.PUBLIC_ROUTES)
+                    .map(pattern -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(pattern))
+                    .toList());
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         logger.debug("AuthTokenFilter called for URI: {}", request.getRequestURI());
+        if (PUBLIC_ROUTES.matches(request)) {
+            // Public routes don't need a principal to be authorized, so the token is only verified
+            // if something downstream actually reads the security context
+            deferAuthentication(request);
+        } else {
+            Authentication authentication = authenticate(request);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void deferAuthentication(HttpServletRequest request) {
+        SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+        Supplier<SecurityContext> previous = strategy.getDeferredContext();
+        strategy.setDeferredContext(SingletonSupplier.of(() -> {
+            Authentication authentication = authenticate(request);
+            if (authentication == null) {
+                return previous.get();
+            }
+            SecurityContext context = strategy.createEmptyContext();
+            context.setAuthentication(authentication);
+            return context;
+        }));
+    }
+
+    private Authentication authenticate(HttpServletRequest request) {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwt != null ? jwtUtils.getValidatedClaims(jwt) : null;
+            if (claims == null || tokenRevocationService.isRevoked(claims.getSubject(), claims.getIssuedAt())) {
+                return null;
+            }
+            String username = claims.getSubject();
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails,
-                                null,
-                                userDetails.getAuthorities());
-                logger.debug("Roles from JWT: {}", userDetails.getAuthorities());
+            // Claims-only mode trusts the verified token and skips the user lookup entirely;
+            // tokens issued before "uid" was added still go through the database
+            UserDetails userDetails = jwtUtils.isClaimsOnlyAuth() && claims.get("uid") != null
+                    ? userDetailsFromClaims(claims)
+                    : userDetailsCache.get(username, userDetailsService::loadUserByUsername);
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userDetails,
+                            null,
+                            userDetails.getAuthorities());
+            logger.debug("Roles from JWT: {}", userDetails.getAuthorities());
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            return authentication;
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e);
+            return null;
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private UserDetails userDetailsFromClaims(Claims claims) {
+        String roles = claims.get("roles", String.class);
+        List<GrantedAuthority> authorities = roles == null || roles.isEmpty()
+                ? List.of()
+                : Arrays.stream(roles.split(","))
+                        .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                        .toList();
+        boolean is2faEnabled = Boolean.TRUE.equals(claims.get("is2faEnabled", Boolean.class));
+
+        // Locked or disabled accounts are handled through TokenRevocationService, not these flags
+        return new UserDetailsImpl(
+                claims.get("uid", Long.class),
+                claims.getSubject(),
+                null,
+                null,
+                is2faEnabled,
+                true,
+                true,
+                true,
+                true,
+                authorities);
     }
 
     private String parseJwt(HttpServletRequest request) {
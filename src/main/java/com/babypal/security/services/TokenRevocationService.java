@@ -0,0 +1,51 @@
+package com.babypal.security.services;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-user "tokens issued before" watermarks. Revoking a user rejects every JWT issued to them
+ * up to that moment, without tracking individual tokens. A watermark is only kept for as long as
+ * a token issued before it could still be unexpired, so the map holds recent revocations only.
+ * <p>
+ * Watermarks live in memory and are therefore per instance; the short access-token lifetime
+ * used in claims-only mode bounds how long another instance can keep honouring a token.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final long maxTokenLifetimeMs;
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(@Value("${spring.app.jwtExpirationMs}") long maxTokenLifetimeMs) {
+        this.maxTokenLifetimeMs = maxTokenLifetimeMs;
+    }
+
+    public void revokeTokensIssuedBefore(String username, long epochMillis) {
+        revokedBefore.merge(username, epochMillis, Math::max);
+    }
+
+    public void revokeAllTokens(String username) {
+        revokeTokensIssuedBefore(username, System.currentTimeMillis());
+    }
+
+    // JWT "iat" has second precision, so the watermark is compared at second precision too. Otherwise a
+    // token issued in the same second as the revocation (e.g. logging in again right after a password or
+    // role change) would be rejected for its whole lifetime. A token issued earlier within that second is
+    // honoured, which is the smaller risk.
+    public boolean isRevoked(String username, Date issuedAt) {
+        Long watermark = revokedBefore.get(username);
+        if (watermark == null) {
+            return false;
+        }
+        if (watermark < System.currentTimeMillis() - maxTokenLifetimeMs) {
+            revokedBefore.remove(username, watermark);
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() < watermark / 1000 * 1000;
+    }
+}
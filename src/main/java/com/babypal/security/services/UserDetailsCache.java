@@ -0,0 +1,101 @@
+package com.babypal.security.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-based cache of {@link UserDetails} used by the JWT filter so that repeated
+ * requests from the same user do not reload the user and role on every call.
+ * Entries are evicted least-recently-used once {@code maxSize} is reached. Anything that
+ * changes a user's status, role or credentials must call {@link #invalidate(String)}.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    // Bumped on every invalidation so a load that raced with it is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserDetailsCache(@Value("${spring.app.authCache.ttlMs:60000}") long ttlMs,
+                            @Value("${spring.app.authCache.maxSize:10000}") int maxSize) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null) {
+                if (now - entry.loadedAt() < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.userDetails();
+                }
+                entries.remove(username);
+                evictions.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        UserDetails userDetails = loader.apply(username);
+
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(username, new Entry(userDetails, now));
+            }
+        }
+        return userDetails;
+    }
+
+    public void invalidate(String username) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(username);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public Map<String, Long> getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return Map.of(
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "evictions", evictions.get(),
+                "size", (long) size);
+    }
+
+    private record Entry(UserDetails userDetails, long loadedAt) {
+    }
+}
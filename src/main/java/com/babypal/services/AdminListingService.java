@@ -0,0 +1,36 @@
+package com.babypal.services;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.CursorPage;
+import com.babypal.models.Log;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.models.User;
+
+public interface AdminListingService {
+    CursorPage<User> getUsers(String userName, Boolean enabled, Sort.Direction direction, String cursor, int limit);
+
+    CursorPage<BabySummaryDTO> getBabies(String owner, Sort.Direction direction, String cursor, int limit);
+
+    CursorPage<Record> getRecords(Long babyId, String type, String author, Sort.Direction direction,
+            String cursor, int limit);
+
+    CursorPage<Measurement> getMeasurements(Long babyId, String author, Sort.Direction direction,
+            String cursor, int limit);
+
+    CursorPage<Log> getLogs(String username, String action, String type, Sort.Direction direction,
+            String cursor, int limit);
+
+    StreamingResponseBody streamUsers(String userName, Boolean enabled, Sort.Direction direction);
+
+    StreamingResponseBody streamBabies(String owner, Sort.Direction direction);
+
+    StreamingResponseBody streamRecords(Long babyId, String type, String author, Sort.Direction direction);
+
+    StreamingResponseBody streamMeasurements(Long babyId, String author, Sort.Direction direction);
+
+    StreamingResponseBody streamLogs(String username, String action, String type, Sort.Direction direction);
+}
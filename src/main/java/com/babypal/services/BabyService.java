@@ -2,6 +2,7 @@ package com.babypal.services;
 
 import java.util.List;
 
+import com.babypal.dtos.BabySummaryDTO;
 import com.babypal.models.Baby;
 
 public interface BabyService {
@@ -15,6 +16,10 @@ public interface BabyService {
 
     Baby getBabyById(Long babyId, String username);
 
+    List<BabySummaryDTO> getBabySummariesByUsername(String username);
+
     List<Baby> getAllBabies();
+
+    List<BabySummaryDTO> getAllBabySummaries();
     
 }
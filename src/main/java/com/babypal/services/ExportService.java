@@ -0,0 +1,11 @@
+package com.babypal.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+    enum Format {
+        NDJSON, CSV
+    }
+
+    StreamingResponseBody exportBaby(Long babyId, String username, Format format, boolean gzip);
+}
@@ -1,7 +1,9 @@
 package com.babypal.services;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import com.babypal.dtos.GrowthGuideCatalog;
 import com.babypal.models.GrowthGuide;
 
 public interface GrowthGuideService {
@@ -10,4 +12,10 @@ public interface GrowthGuideService {
     GrowthGuide getGrowthGuideById(Long id);
 
     List<GrowthGuide> getAllGrowthGuides();
+
+    GrowthGuide getGrowthGuideForAge(LocalDate dateOfBirth, LocalDate referenceDate);
+
+    GrowthGuideCatalog getCatalog();
+
+    GrowthGuideCatalog refreshCatalog();
 }
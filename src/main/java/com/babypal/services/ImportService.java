@@ -0,0 +1,12 @@
+package com.babypal.services;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.babypal.dtos.ImportJobDTO;
+
+public interface ImportService {
+    ImportJobDTO startImport(Long babyId, ImportJobDTO.Kind kind, ImportJobDTO.Format format, MultipartFile file,
+            String username);
+
+    ImportJobDTO getImportJob(String jobId, String username);
+}
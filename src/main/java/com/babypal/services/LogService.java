@@ -2,6 +2,8 @@ package com.babypal.services;
 
 import java.util.List;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LogSearchCriteria;
 import com.babypal.models.Log;
 
 public interface LogService {
@@ -10,6 +12,8 @@ public interface LogService {
     Log getLogById(Long logId, String username);
 
     List<Log> getAllLogs();
+
+    CursorPage<Log> searchLogs(LogSearchCriteria criteria, String cursor, int limit);
     
     Log logSignInSuccess(String username, Long userId);
     
@@ -24,8 +28,12 @@ public interface LogService {
     
     Log logEntityUpdate(String username, Long userId, String entityType, Long entityId, String action);
     
+    // One entry standing for `count` entities created together, e.g. a batch of records
+    Log logEntityBatchCreate(String username, Long userId, String entityType, Long entityId, String action, long count);
+    
     Log logEntityDelete(String username, Long userId, String entityType, Long entityId, String action);
     
+    // Subject to the action's read policy; returns null when the read was sampled out or aggregated
     Log logEntityRead(String username, Long userId, String entityType, Long entityId, String action);
     
     // Admin action logging
@@ -1,7 +1,10 @@
 package com.babypal.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LatestMeasurementDTO;
 import com.babypal.models.Measurement;
 
 public interface MeasurementService {
@@ -15,6 +18,11 @@ public interface MeasurementService {
 
     List<Measurement> getAllMeasurementsByUsername(String username);
 
+    CursorPage<Measurement> getMeasurementsByBabyId(Long babyId, String username, LocalDateTime from,
+            LocalDateTime to, String cursor, int limit);
+
+    LatestMeasurementDTO getLatestMeasurementByBabyId(Long babyId, String username);
+
     List<Measurement> getAllMeasurements();
     
 }
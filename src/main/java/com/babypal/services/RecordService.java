@@ -1,12 +1,17 @@
 package com.babypal.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.RecordBatchResultDTO;
 import com.babypal.models.Record;
 
 public interface RecordService {
     Record createRecord(Record record, String username);
 
+    RecordBatchResultDTO createRecordsBatch(Long babyId, List<Record> records, String username);
+
     Record updateRecord(Long recordId, Record recordDetails, String username);
 
     void deleteRecord(Long recordId, String username);
@@ -15,6 +20,9 @@ public interface RecordService {
 
     List<Record> getAllRecordsByUsername(String username);
 
+    CursorPage<Record> getRecordsByBabyId(Long babyId, String username, String type, String subType,
+            LocalDateTime from, LocalDateTime to, String cursor, int limit);
+
     List<Record> getAllRecords();
     
 }
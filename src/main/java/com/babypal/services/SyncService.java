@@ -0,0 +1,7 @@
+package com.babypal.services;
+
+import com.babypal.dtos.SyncResponseDTO;
+
+public interface SyncService {
+    SyncResponseDTO getChangesSince(String username, String since);
+}
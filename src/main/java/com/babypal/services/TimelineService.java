@@ -0,0 +1,8 @@
+package com.babypal.services;
+
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.TimelineEntry;
+
+public interface TimelineService {
+    CursorPage<TimelineEntry> getTimeline(Long babyId, String username, String cursor, int limit);
+}
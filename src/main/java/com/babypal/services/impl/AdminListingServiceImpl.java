@@ -0,0 +1,155 @@
+package com.babypal.services.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.CursorPage;
+import com.babypal.models.Baby;
+import com.babypal.models.Log;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.models.User;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.CommonSpecifications;
+import com.babypal.repositories.LogRepository;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.repositories.UserRepository;
+import com.babypal.services.AdminListingService;
+import com.babypal.util.KeysetCursor;
+import com.babypal.util.NdjsonStreamer;
+
+/**
+ * Admin listings ordered by id: cursor pages for the UI and NDJSON streams for exports. Neither builds
+ * the whole table in memory.
+ */
+@Service
+public class AdminListingServiceImpl implements AdminListingService {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final BabyRepository babyRepository;
+    private final RecordRepository recordRepository;
+    private final MeasurementRepository measurementRepository;
+    private final LogRepository logRepository;
+    private final NdjsonStreamer ndjsonStreamer;
+
+    public AdminListingServiceImpl(UserRepository userRepository, BabyRepository babyRepository,
+            RecordRepository recordRepository, MeasurementRepository measurementRepository,
+            LogRepository logRepository, NdjsonStreamer ndjsonStreamer) {
+        this.userRepository = userRepository;
+        this.babyRepository = babyRepository;
+        this.recordRepository = recordRepository;
+        this.measurementRepository = measurementRepository;
+        this.logRepository = logRepository;
+        this.ndjsonStreamer = ndjsonStreamer;
+    }
+
+    @Override
+    public CursorPage<User> getUsers(String userName, Boolean enabled, Sort.Direction direction, String cursor,
+            int limit) {
+        return page(userRepository, userFilter(userName, enabled), "userId", User::getUserId, direction, cursor, limit);
+    }
+
+    @Override
+    public CursorPage<BabySummaryDTO> getBabies(String owner, Sort.Direction direction, String cursor, int limit) {
+        CursorPage<Baby> babies = page(babyRepository, CommonSpecifications.equalTo("owner", owner), "id",
+                Baby::getId, direction, cursor, limit);
+        if (babies.getItems().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        // The page only reads baby columns; counts and latest measurements come from one summary query
+        List<Long> ids = babies.getItems().stream().map(Baby::getId).toList();
+        return new CursorPage<>(babyRepository.findSummariesByIdIn(ids, Sort.by(direction, "id")),
+                babies.getNextCursor());
+    }
+
+    @Override
+    public CursorPage<Record> getRecords(Long babyId, String type, String author, Sort.Direction direction,
+            String cursor, int limit) {
+        return page(recordRepository, recordFilter(babyId, type, author), "id", Record::getId, direction, cursor, limit);
+    }
+
+    @Override
+    public CursorPage<Measurement> getMeasurements(Long babyId, String author, Sort.Direction direction,
+            String cursor, int limit) {
+        return page(measurementRepository, measurementFilter(babyId, author), "id", Measurement::getId, direction,
+                cursor, limit);
+    }
+
+    @Override
+    public CursorPage<Log> getLogs(String username, String action, String type, Sort.Direction direction,
+            String cursor, int limit) {
+        return page(logRepository, logFilter(username, action, type), "id", Log::getId, direction, cursor, limit);
+    }
+
+    @Override
+    public StreamingResponseBody streamUsers(String userName, Boolean enabled, Sort.Direction direction) {
+        return ndjsonStreamer.ndjson(() -> ndjsonStreamer.streamEntities(User.class, userFilter(userName, enabled),
+                Sort.by(direction, "userId"), "role"));
+    }
+
+    @Override
+    public StreamingResponseBody streamBabies(String owner, Sort.Direction direction) {
+        // Through the streamer rather than a repository method so the configured fetch size applies
+        String jpql = BabyRepository.SUMMARY_SELECT + "where (:owner is null or b.owner = :owner) order by b.id "
+                + direction.name();
+        return ndjsonStreamer.ndjson(() -> ndjsonStreamer.streamQuery(BabySummaryDTO.class, jpql,
+                Collections.singletonMap("owner", owner)));
+    }
+
+    @Override
+    public StreamingResponseBody streamRecords(Long babyId, String type, String author, Sort.Direction direction) {
+        return ndjsonStreamer.ndjson(() -> ndjsonStreamer.streamEntities(Record.class,
+                recordFilter(babyId, type, author), Sort.by(direction, "id"), "baby"));
+    }
+
+    @Override
+    public StreamingResponseBody streamMeasurements(Long babyId, String author, Sort.Direction direction) {
+        return ndjsonStreamer.ndjson(() -> ndjsonStreamer.streamEntities(Measurement.class,
+                measurementFilter(babyId, author), Sort.by(direction, "id"), "baby"));
+    }
+
+    @Override
+    public StreamingResponseBody streamLogs(String username, String action, String type, Sort.Direction direction) {
+        return ndjsonStreamer.ndjson(() -> ndjsonStreamer.streamEntities(Log.class,
+                logFilter(username, action, type), Sort.by(direction, "id")));
+    }
+
+    private Specification<User> userFilter(String userName, Boolean enabled) {
+        return CommonSpecifications.<User>containsIgnoreCase("userName", userName)
+                .and(CommonSpecifications.equalTo("enabled", enabled));
+    }
+
+    private Specification<Record> recordFilter(Long babyId, String type, String author) {
+        return CommonSpecifications.<Record>babyIdEquals(babyId)
+                .and(CommonSpecifications.equalTo("type", type))
+                .and(CommonSpecifications.equalTo("author", author));
+    }
+
+    private Specification<Measurement> measurementFilter(Long babyId, String author) {
+        return CommonSpecifications.<Measurement>babyIdEquals(babyId)
+                .and(CommonSpecifications.equalTo("author", author));
+    }
+
+    private Specification<Log> logFilter(String username, String action, String type) {
+        return CommonSpecifications.<Log>equalTo("username", username)
+                .and(CommonSpecifications.equalTo("action", action))
+                .and(CommonSpecifications.equalTo("type", type));
+    }
+
+    private <T> CursorPage<T> page(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+            String idAttribute, Function<T, Long> idOf, Sort.Direction direction, String cursor, int limit) {
+        return KeysetPages.page(repository,
+                filter.and(CommonSpecifications.idAfter(idAttribute, KeysetCursor.decodeId(cursor), direction)),
+                Sort.by(direction, idAttribute), limit, MAX_PAGE_SIZE, last -> KeysetCursor.encodeId(idOf.apply(last)));
+    }
+}
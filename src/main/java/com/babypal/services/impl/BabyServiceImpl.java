@@ -1,29 +1,49 @@
 package com.babypal.services.impl;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.babypal.dtos.BabySummaryDTO;
 import com.babypal.exceptions.UnauthorizedAccessException;
+import com.babypal.models.AccessGrant;
 import com.babypal.models.Baby;
-import com.babypal.models.User;
+import com.babypal.models.Tombstone;
+import com.babypal.repositories.AccessGrantRepository;
 import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.repositories.TombstoneRepository;
 import com.babypal.services.BabyService;
 import com.babypal.services.LogService;
-import com.babypal.services.UserService;
+import com.babypal.util.AuthUtil;
 
 @Service
 public class BabyServiceImpl implements BabyService {
     private final BabyRepository babyRepository;
     private final LogService logService;
-    private final UserService userService;
-
-    public BabyServiceImpl(BabyRepository babyRepository, LogService logService, UserService userService) {
+    private final AuthUtil authUtil;
+    private final TombstoneRepository tombstoneRepository;
+    private final RecordRepository recordRepository;
+    private final MeasurementRepository measurementRepository;
+    private final AccessGrantRepository accessGrantRepository;
+
+    public BabyServiceImpl(BabyRepository babyRepository, LogService logService, AuthUtil authUtil,
+            TombstoneRepository tombstoneRepository, RecordRepository recordRepository,
+            MeasurementRepository measurementRepository, AccessGrantRepository accessGrantRepository) {
         this.babyRepository = babyRepository;
         this.logService = logService;
-        this.userService = userService;
+        this.authUtil = authUtil;
+        this.tombstoneRepository = tombstoneRepository;
+        this.recordRepository = recordRepository;
+        this.measurementRepository = measurementRepository;
+        this.accessGrantRepository = accessGrantRepository;
     }
 
     private boolean isAdmin() {
@@ -32,6 +52,7 @@ public class BabyServiceImpl implements BabyService {
     }
 
     @Override
+    @Transactional
     public Baby createBaby(String username, Baby baby) {
         Baby newBaby = new Baby();
         newBaby.setName(baby.getName());
@@ -46,13 +67,13 @@ public class BabyServiceImpl implements BabyService {
         Baby savedBaby = babyRepository.save(newBaby);
         
         // Log baby creation
-        User user = userService.findByUsername(username);
-        logService.logEntityCreate(username, user.getUserId(), "BABY", savedBaby.getId(), "CREATE_BABY");
+        logService.logEntityCreate(username, authUtil.userIdOf(username), "BABY", savedBaby.getId(), "CREATE_BABY");
         
         return savedBaby;
     }
 
     @Override
+    @Transactional
     public Baby updateBaby(Long babyId, Baby babyDetails, String username) {
         Baby existingBaby = babyRepository.findById(babyId)
                 .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
@@ -61,6 +82,8 @@ public class BabyServiceImpl implements BabyService {
             throw new UnauthorizedAccessException("Only admins and caregivers can update baby details");
         }
 
+        List<String> previousAudience = Tombstone.audienceOf(existingBaby);
+
         existingBaby.setName(babyDetails.getName());
         existingBaby.setGender(babyDetails.getGender());
         existingBaby.setDateOfBirth(babyDetails.getDateOfBirth());
@@ -71,15 +94,27 @@ public class BabyServiceImpl implements BabyService {
         existingBaby.setOwner(babyDetails.getOwner());
         
         Baby updatedBaby = babyRepository.save(existingBaby);
+
+        // Users who lost access should have the baby removed from their devices on next sync
+        List<String> currentAudience = Tombstone.audienceOf(updatedBaby);
+        List<String> removed = previousAudience.stream().filter(user -> !currentAudience.contains(user)).toList();
+        if (!removed.isEmpty()) {
+            tombstoneRepository.save(Tombstone.of("BABY", babyId, babyId, removed));
+        }
+        // Users who gained access need the baby's existing history, which is older than their watermark
+        List<String> added = currentAudience.stream().filter(user -> !previousAudience.contains(user)).toList();
+        if (!added.isEmpty()) {
+            accessGrantRepository.saveAll(added.stream().map(user -> AccessGrant.of(babyId, user)).toList());
+        }
         
         // Log baby update
-        User user = userService.findByUsername(username);
-        logService.logEntityUpdate(username, user.getUserId(), "BABY", babyId, "UPDATE_BABY");
+        logService.logEntityUpdate(username, authUtil.userIdOf(username), "BABY", babyId, "UPDATE_BABY");
         
         return updatedBaby;
     }
 
     @Override
+    @Transactional
     public void deleteBaby(Long babyId, String username) {
         Baby existingBaby = babyRepository.findById(babyId)
                 .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
@@ -88,19 +123,23 @@ public class BabyServiceImpl implements BabyService {
             throw new UnauthorizedAccessException("Only admins and owners can delete baby profiles");
         }
         
-        babyRepository.delete(existingBaby);
+        tombstoneRepository.save(Tombstone.of("BABY", babyId, babyId, Tombstone.audienceOf(existingBaby)));
+
+        // Soft delete: the children are flagged in bulk rather than loaded and deleted one by one,
+        // so this stays fast however much history the baby has. SoftDeletePurger removes the rows later.
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
+        recordRepository.markDeletedByBabyId(babyId, now);
+        measurementRepository.markDeletedByBabyId(babyId, now);
+        existingBaby.setDeletedAt(now);
+        babyRepository.save(existingBaby);
         
         // Log baby deletion
-        User user = userService.findByUsername(username);
-        logService.logEntityDelete(username, user.getUserId(), "BABY", babyId, "DELETE_BABY");
+        logService.logEntityDelete(username, authUtil.userIdOf(username), "BABY", babyId, "DELETE_BABY");
     }
 
     @Override
     public List<Baby> getAllBabiesByUsername(String username) {
-        return babyRepository.findAll().stream()
-                .filter(baby -> baby.getOwner().equals(username)
-                        || (baby.getCaregivers() != null && baby.getCaregivers().contains(username)))
-                .toList();
+        return babyRepository.findAllByOwnerOrCaregiver(username);
     }
 
     @Override
@@ -113,17 +152,26 @@ public class BabyServiceImpl implements BabyService {
         }
 
         // Log baby read
-        User user = userService.findByUsername(username);
-        logService.logEntityRead(username, user.getUserId(), "BABY", babyId, "GET_BABY");
+        logService.logEntityRead(username, authUtil.userIdOf(username), "BABY", babyId, "GET_BABY");
 
         return babyRepository.findById(babyId)
                 .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
     }
     
+    @Override
+    public List<BabySummaryDTO> getBabySummariesByUsername(String username) {
+        return babyRepository.findSummariesByOwnerOrCaregiver(username);
+    }
+
     @Override
     public List<Baby> getAllBabies() {
         return babyRepository.findAll();
     }
+
+    @Override
+    public List<BabySummaryDTO> getAllBabySummaries() {
+        return babyRepository.findAllSummaries();
+    }
         
 
 }
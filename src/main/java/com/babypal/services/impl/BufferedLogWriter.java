@@ -0,0 +1,199 @@
+package com.babypal.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.babypal.models.Log;
+import com.babypal.repositories.LogRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Takes audit {@link Log} entries off the request thread. Entries are queued in a bounded
+ * in-memory buffer and written by a single background thread in batches, either when
+ * {@code batchSize} entries are waiting or when {@code flushIntervalMs} has elapsed.
+ * Anything still queued is written when the application context shuts down.
+ */
+@Component
+public class BufferedLogWriter {
+    private static final Logger logger = LoggerFactory.getLogger(BufferedLogWriter.class);
+
+    public enum OverflowPolicy {
+        /** The caller waits until the writer has made room. */
+        BLOCK,
+        /** Read events are discarded while the queue is full; everything else waits. */
+        DROP_READS,
+        /** The caller writes the entry itself, synchronously, while the queue is full. */
+        SPILL
+    }
+
+    private final LogRepository logRepository;
+    private final BlockingQueue<Log> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long shutdownTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public BufferedLogWriter(LogRepository logRepository,
+            @Value("${spring.app.auditLog.queueCapacity:10000}") int queueCapacity,
+            @Value("${spring.app.auditLog.batchSize:100}") int batchSize,
+            @Value("${spring.app.auditLog.flushIntervalMs:1000}") long flushIntervalMs,
+            @Value("${spring.app.auditLog.shutdownTimeoutMs:10000}") long shutdownTimeoutMs,
+            @Value("${spring.app.auditLog.overflowPolicy:BLOCK}") OverflowPolicy overflowPolicy) {
+        this.logRepository = logRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+        this.worker = new Thread(this::run, "audit-log-writer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            logger.warn("Audit log writer stopped with {} entries still queued", queue.size());
+            return;
+        }
+        // Offered after the worker's final drain; write() normally takes these back itself
+        List<Log> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        flush(leftover);
+    }
+
+    /**
+     * Queues an entry for writing. {@code read} marks low-value read events, which are
+     * the first to go under the {@link OverflowPolicy#DROP_READS} policy.
+     */
+    public Log write(Log log, boolean read) {
+        if (!running) {
+            return logRepository.save(log);
+        }
+        if (queue.offer(log)) {
+            return saveIfStopped(log);
+        }
+
+        switch (overflowPolicy) {
+            case DROP_READS:
+                if (read) {
+                    dropped.incrementAndGet();
+                    return log;
+                }
+                enqueueBlocking(log);
+                break;
+            case SPILL:
+                spilled.incrementAndGet();
+                return logRepository.save(log);
+            default:
+                enqueueBlocking(log);
+        }
+        return log;
+    }
+
+    public long getPendingCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void enqueueBlocking(Log log) {
+        try {
+            queue.put(log);
+            saveIfStopped(log);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logRepository.save(log);
+        }
+    }
+
+    // stop() may have run between the running check and the offer, in which case the worker may already
+    // have done its final drain; whoever takes the entry back out of the queue writes it
+    private Log saveIfStopped(Log log) {
+        if (!running && queue.remove(log)) {
+            return logRepository.save(log);
+        }
+        return log;
+    }
+
+    private void run() {
+        List<Log> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long wait = deadline - System.currentTimeMillis();
+                Log log = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (log != null) {
+                    batch.add(log);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.size() >= batchSize || System.currentTimeMillis() >= deadline) {
+                    flush(batch);
+                    deadline = System.currentTimeMillis() + flushIntervalMs;
+                }
+            } catch (InterruptedException e) {
+                // stop() interrupts the worker; the loop condition decides whether to keep draining
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Log> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            logRepository.saveAll(batch);
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            logger.error("Failed to write {} audit log entries", batch.size(), e);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,167 @@
+package com.babypal.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.babypal.dtos.BabyExportRow;
+import com.babypal.exceptions.UnauthorizedAccessException;
+import com.babypal.models.Baby;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.MeasurementSpecifications;
+import com.babypal.repositories.RecordSpecifications;
+import com.babypal.services.ExportService;
+import com.babypal.services.LogService;
+import com.babypal.util.AuthUtil;
+import com.babypal.util.NdjsonStreamer;
+import com.babypal.util.SortedMerge;
+
+/**
+ * Streams one baby's data: the baby, then its records and measurements merged in time order from two
+ * forward-only cursors. Nothing is collected in memory, so the first bytes go out as soon as the first
+ * rows are read.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+    private static final Comparator<BabyExportRow> TIME_ORDER = Comparator
+            .comparing(BabyExportRow::time, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(BabyExportRow::kind)
+            .thenComparing(BabyExportRow::id);
+
+    private final BabyRepository babyRepository;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final LogService logService;
+    private final AuthUtil authUtil;
+
+    public ExportServiceImpl(BabyRepository babyRepository, NdjsonStreamer ndjsonStreamer, LogService logService,
+            AuthUtil authUtil) {
+        this.babyRepository = babyRepository;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.logService = logService;
+        this.authUtil = authUtil;
+    }
+
+    private boolean isAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities()
+                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    @Override
+    public StreamingResponseBody exportBaby(Long babyId, String username, Format format, boolean gzip) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getOwner().equals(username)
+                && (baby.getCaregivers() == null || !baby.getCaregivers().contains(username))) {
+            throw new UnauthorizedAccessException("Only admins and caregivers can export this baby's data");
+        }
+
+        BabyExportRow babyRow = new BabyExportRow(BabyExportRow.Kind.BABY, baby.getId(), baby.getDateOfBirth(),
+                null, baby.getName(), baby.getGender(), null, null, null,
+                baby.getWeight(), baby.getHeight(), baby.getHeadCircumference(), baby.getOwner());
+
+        StreamingResponseBody body = format == Format.CSV
+                ? withHeader(ndjsonStreamer.stream(() -> rows(babyRow), ExportServiceImpl::writeCsvRow))
+                : ndjsonStreamer.ndjson(() -> rows(babyRow));
+
+        logService.logEntityRead(username, authUtil.userIdOf(username), "BABY", babyId, "EXPORT_BABY");
+
+        return gzip ? gzipped(body) : body;
+    }
+
+    private Stream<BabyExportRow> rows(BabyExportRow babyRow) {
+        Stream<BabyExportRow> records = ndjsonStreamer.streamEntities(Record.class,
+                RecordSpecifications.forBaby(babyRow.id()),
+                Sort.by(Sort.Order.asc("startTime"), Sort.Order.asc("id")), "baby")
+                .map(ExportServiceImpl::toRow);
+        Stream<BabyExportRow> measurements = ndjsonStreamer.streamEntities(Measurement.class,
+                MeasurementSpecifications.forBaby(babyRow.id()),
+                Sort.by(Sort.Order.asc("time"), Sort.Order.asc("id")), "baby")
+                .map(ExportServiceImpl::toRow);
+
+        Iterator<BabyExportRow> merged = SortedMerge.merge(List.of(records.iterator(), measurements.iterator()),
+                TIME_ORDER);
+        Stream<BabyExportRow> timeline = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(records::close)
+                .onClose(measurements::close);
+        return Stream.concat(Stream.of(babyRow), timeline);
+    }
+
+    private static BabyExportRow toRow(Record record) {
+        return new BabyExportRow(BabyExportRow.Kind.RECORD, record.getId(), record.getStartTime(),
+                record.getEndTime(), null, null, record.getType(), record.getSubType(), record.getNote(),
+                null, null, null, record.getAuthor());
+    }
+
+    private static BabyExportRow toRow(Measurement measurement) {
+        return new BabyExportRow(BabyExportRow.Kind.MEASUREMENT, measurement.getId(), measurement.getTime(),
+                null, null, null, null, null, null,
+                measurement.getWeight(), measurement.getHeight(), measurement.getHeadCircumference(),
+                measurement.getAuthor());
+    }
+
+    private static StreamingResponseBody withHeader(StreamingResponseBody rows) {
+        return out -> {
+            out.write((BabyExportRow.CSV_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+            rows.writeTo(out);
+        };
+    }
+
+    // Sync-flushing so every flush of the underlying stream still sends compressed bytes right away
+    private static StreamingResponseBody gzipped(StreamingResponseBody body) {
+        return out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 8192, true);
+            body.writeTo(gzip);
+            gzip.finish();
+            gzip.flush();
+        };
+    }
+
+    private static void writeCsvRow(Object value, OutputStream out) throws IOException {
+        BabyExportRow row = (BabyExportRow) value;
+        StringBuilder line = new StringBuilder(128);
+        line.append(row.kind()).append(',')
+                .append(row.id()).append(',')
+                .append(row.time() != null ? row.time() : "").append(',')
+                .append(row.endTime() != null ? row.endTime() : "").append(',');
+        appendText(line, row.name()).append(',');
+        appendText(line, row.gender()).append(',');
+        appendText(line, row.type()).append(',');
+        appendText(line, row.subType()).append(',');
+        appendText(line, row.note()).append(',');
+        line.append(row.weight() != null ? row.weight() : "").append(',')
+                .append(row.height() != null ? row.height() : "").append(',')
+                .append(row.headCircumference() != null ? row.headCircumference() : "").append(',');
+        appendText(line, row.author()).append('\n');
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Quotes fields that need it and defuses leading characters spreadsheets would run as formulas
+    private static StringBuilder appendText(StringBuilder line, String value) {
+        if (value == null || value.isEmpty()) {
+            return line;
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+        }
+        return line.append(text);
+    }
+}
@@ -1,32 +1,51 @@
 package com.babypal.services.impl;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import com.babypal.dtos.GrowthGuideCatalog;
 import com.babypal.exceptions.UnauthorizedAccessException;
 import com.babypal.models.GrowthGuide;
-import com.babypal.models.User;
 import com.babypal.repositories.GrowthGuideRepository;
 import com.babypal.services.GrowthGuideService;
 import com.babypal.services.LogService;
-import com.babypal.services.UserService;
+import com.babypal.util.AuthUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Service
 public class GrowthGuideServiceImpl implements GrowthGuideService {
     private final GrowthGuideRepository growthGuideRepository;
     private final LogService logService;
-    private final UserService userService;
+    private final AuthUtil authUtil;
+    private final ObjectMapper objectMapper;
+    private final long catalogMaxAgeNanos;
+
+    private final AtomicReference<Snapshot> catalog = new AtomicReference<>();
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final AtomicBoolean reloading = new AtomicBoolean();
 
     @Autowired
-    public GrowthGuideServiceImpl(GrowthGuideRepository growthGuideRepository, LogService logService, UserService userService) {
+    public GrowthGuideServiceImpl(GrowthGuideRepository growthGuideRepository, LogService logService, AuthUtil authUtil,
+            ObjectMapper objectMapper,
+            @Value("${spring.app.growthGuideCatalog.maxAgeMs:300000}") long catalogMaxAgeMs) {
         this.growthGuideRepository = growthGuideRepository;
         this.logService = logService;
-        this.userService = userService;
+        this.authUtil = authUtil;
+        this.objectMapper = objectMapper;
+        this.catalogMaxAgeNanos = TimeUnit.MILLISECONDS.toNanos(catalogMaxAgeMs);
     }
 
     private boolean isAdmin() {
@@ -49,26 +68,27 @@ public class GrowthGuideServiceImpl implements GrowthGuideService {
         existingGuide.setMotorSkills(growthGuideDetails.getMotorSkills());
         
         GrowthGuide updatedGuide = growthGuideRepository.save(existingGuide);
+        refreshCatalog();
         
         // Log growth guide update
         UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userService.findByUsername(userDetails.getUsername());
-        logService.logEntityUpdate(userDetails.getUsername(), user.getUserId(), "GROWTH_GUIDE", id, "UPDATE_GROWTH_GUIDE");
+        logService.logEntityUpdate(userDetails.getUsername(), authUtil.userIdOf(userDetails.getUsername()), "GROWTH_GUIDE", id, "UPDATE_GROWTH_GUIDE");
         
         return updatedGuide;
     }
 
     @Override
     public GrowthGuide getGrowthGuideById(Long id) {
-        GrowthGuide guide = growthGuideRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("GrowthGuide not found with id: " + id));
+        GrowthGuide guide = getCatalog().getGuidesById().get(id);
+        if (guide == null) {
+            throw new RuntimeException("GrowthGuide not found with id: " + id);
+        }
         
         // Log growth guide read (only if user is authenticated)
         if (SecurityContextHolder.getContext().getAuthentication() != null && 
             SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof UserDetails) {
             UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            User user = userService.findByUsername(userDetails.getUsername());
-            logService.logEntityRead(userDetails.getUsername(), user.getUserId(), "GROWTH_GUIDE", id, "GET_GROWTH_GUIDE");
+            logService.logEntityRead(userDetails.getUsername(), authUtil.userIdOf(userDetails.getUsername()), "GROWTH_GUIDE", id, "GET_GROWTH_GUIDE");
         }
         
         return guide;
@@ -76,6 +96,56 @@ public class GrowthGuideServiceImpl implements GrowthGuideService {
 
     @Override
     public List<GrowthGuide> getAllGrowthGuides() {
-        return growthGuideRepository.findAll();
+        return getCatalog().getGuides();
+    }
+
+    @Override
+    public GrowthGuide getGrowthGuideForAge(LocalDate dateOfBirth, LocalDate referenceDate) {
+        LocalDate asOf = referenceDate != null ? referenceDate : LocalDate.now(ZoneId.of("Asia/Singapore"));
+        if (dateOfBirth == null || dateOfBirth.isAfter(asOf)) {
+            throw new RuntimeException("Date of birth must not be after the reference date");
+        }
+        GrowthGuide guide = getCatalog().findByAgeInMonths(ChronoUnit.MONTHS.between(dateOfBirth, asOf));
+        if (guide == null) {
+            throw new RuntimeException("No growth guides available");
+        }
+        return guide;
+    }
+
+    /**
+     * Read-through: the first call loads the catalog, later calls are served from memory. Snapshots are
+     * also reloaded after {@code spring.app.growthGuideCatalog.maxAgeMs} so that updates made through
+     * another instance are eventually picked up; only one caller does that reload while the others keep
+     * serving the expired snapshot.
+     */
+    @Override
+    public GrowthGuideCatalog getCatalog() {
+        Snapshot current = catalog.get();
+        if (current == null) {
+            return refreshCatalog();
+        }
+        if (System.nanoTime() - current.catalog().getLoadedAtNanos() > catalogMaxAgeNanos
+                && reloading.compareAndSet(false, true)) {
+            try {
+                return refreshCatalog();
+            } finally {
+                reloading.set(false);
+            }
+        }
+        return current.catalog();
+    }
+
+    // Loads are numbered before they read, and a snapshot is only installed over an older-numbered one:
+    // a TTL reload that started before an update's refresh can finish after it without undoing it
+    @Override
+    public GrowthGuideCatalog refreshCatalog() {
+        long sequence = loadSequence.incrementAndGet();
+        Snapshot fresh = new Snapshot(GrowthGuideCatalog.of(growthGuideRepository.findAll(), objectMapper),
+                sequence);
+        return catalog.updateAndGet(current -> current == null || current.sequence() < sequence ? fresh : current)
+                .catalog();
+    }
+
+    private record Snapshot(GrowthGuideCatalog catalog, long sequence) {
     }
 }
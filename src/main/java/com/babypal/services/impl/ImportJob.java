@@ -0,0 +1,91 @@
+package com.babypal.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.babypal.dtos.ImportJobDTO;
+
+/**
+ * Mutable progress of one import, updated by the worker thread and read by status requests.
+ */
+class ImportJob {
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    final String id;
+    final String username;
+    final Long babyId;
+    final ImportJobDTO.Kind kind;
+    final ImportJobDTO.Format format;
+    final LocalDateTime createdAt = now();
+
+    final AtomicLong rowsRead = new AtomicLong();
+    final AtomicLong rowsImported = new AtomicLong();
+    final AtomicLong rowsSkipped = new AtomicLong();
+    final AtomicLong rowsFailed = new AtomicLong();
+
+    private final List<ImportJobDTO.RowError> errors = new ArrayList<>();
+    private volatile ImportJobDTO.Status status = ImportJobDTO.Status.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    ImportJob(String id, String username, Long babyId, ImportJobDTO.Kind kind, ImportJobDTO.Format format) {
+        this.id = id;
+        this.username = username;
+        this.babyId = babyId;
+        this.kind = kind;
+        this.format = format;
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
+    }
+
+    void start() {
+        startedAt = now();
+        status = ImportJobDTO.Status.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = now();
+        status = ImportJobDTO.Status.COMPLETED;
+    }
+
+    void fail(String reason) {
+        message = reason;
+        finishedAt = now();
+        status = ImportJobDTO.Status.FAILED;
+    }
+
+    void rowFailed(long row, String reason) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportJobDTO.RowError(row, reason));
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    ImportJobDTO toDTO() {
+        List<ImportJobDTO.RowError> reported;
+        synchronized (errors) {
+            reported = List.copyOf(errors);
+        }
+        return new ImportJobDTO(id, babyId, kind, format, status,
+                rowsRead.get(), rowsImported.get(), rowsSkipped.get(), rowsFailed.get(),
+                reported, rowsFailed.get() > reported.size(), message,
+                createdAt, startedAt, finishedAt);
+    }
+}
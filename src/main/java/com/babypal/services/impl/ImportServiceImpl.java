@@ -0,0 +1,508 @@
+package com.babypal.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.babypal.dtos.ImportJobDTO;
+import com.babypal.exceptions.UnauthorizedAccessException;
+import com.babypal.models.Baby;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.services.ImportService;
+import com.babypal.services.LogService;
+import com.babypal.util.AuthUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports historical records or measurements for one baby from an uploaded CSV or JSON file.
+ * <ul>
+ * <li>The upload is spooled to a temporary file and the request returns straight away with a job id.</li>
+ * <li>A worker reads the file row by row (CSV lines, or objects of a top-level JSON array), so memory
+ * use does not depend on the file size.</li>
+ * <li>Valid rows are saved {@code chunkSize} at a time, each chunk in its own transaction, so a failure
+ * only loses the chunk in flight; invalid rows are reported on the job and skipped.</li>
+ * <li>Records with a {@code clientKey} already stored for the baby are skipped, so a re-run
+ * of the same file does not duplicate them.</li>
+ * </ul>
+ */
+@Service
+public class ImportServiceImpl implements ImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ImportServiceImpl.class);
+    private static final int MAX_CLIENT_KEY_LENGTH = 64;
+
+    private final BabyRepository babyRepository;
+    private final RecordRepository recordRepository;
+    private final MeasurementRepository measurementRepository;
+    private final LogService logService;
+    private final AuthUtil authUtil;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long retentionMs;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportServiceImpl(BabyRepository babyRepository, RecordRepository recordRepository,
+            MeasurementRepository measurementRepository, LogService logService, AuthUtil authUtil,
+            Validator validator, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${spring.app.imports.chunkSize:1000}") int chunkSize,
+            @Value("${spring.app.imports.workers:2}") int workers,
+            @Value("${spring.app.imports.queueCapacity:20}") int queueCapacity,
+            @Value("${spring.app.imports.retentionMs:3600000}") long retentionMs) {
+        this.babyRepository = babyRepository;
+        this.recordRepository = recordRepository;
+        this.measurementRepository = measurementRepository;
+        this.logService = logService;
+        this.authUtil = authUtil;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.retentionMs = retentionMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "import-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private boolean isAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities()
+                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    @Override
+    public ImportJobDTO startImport(Long babyId, ImportJobDTO.Kind kind, ImportJobDTO.Format format,
+            MultipartFile file, String username) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("Import file is empty");
+        }
+
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getCaregivers().contains(username)) {
+            throw new UnauthorizedAccessException("Only caregivers can import data for this baby");
+        }
+
+        ImportJobDTO.Format resolvedFormat = format != null ? format : detectFormat(file);
+        // Resolved here because the worker thread has no security context
+        Long userId = authUtil.userIdOf(username);
+
+        Path spooled;
+        try {
+            spooled = Files.createTempFile("babypal-import-", "." + resolvedFormat.name().toLowerCase(Locale.ROOT));
+            file.transferTo(spooled);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store import file: " + e.getMessage());
+        }
+
+        pruneFinishedJobs();
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), username, babyId, kind, resolvedFormat);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, userId, spooled));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            deleteQuietly(spooled);
+            throw new RuntimeException("Too many imports in progress, please try again later");
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public ImportJobDTO getImportJob(String jobId, String username) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Import job not found with id: " + jobId);
+        }
+        if (!isAdmin() && !job.username.equals(username)) {
+            throw new UnauthorizedAccessException("Only admins and the uploader can see this import");
+        }
+        return job.toDTO();
+    }
+
+    private static ImportJobDTO.Format detectFormat(MultipartFile file) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String contentType = file.getContentType() != null ? file.getContentType() : "";
+        return name.endsWith(".json") || contentType.contains("json") ? ImportJobDTO.Format.JSON
+                : ImportJobDTO.Format.CSV;
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime()
+                .minusNanos(TimeUnit.MILLISECONDS.toNanos(retentionMs));
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private void run(ImportJob job, Long userId, Path file) {
+        job.start();
+        try (InputStream in = Files.newInputStream(file)) {
+            if (job.kind == ImportJobDTO.Kind.RECORDS) {
+                importRows(job, in, this::toRecord, chunk -> saveRecords(job, chunk));
+            } else {
+                importRows(job, in, this::toMeasurement, chunk -> saveMeasurements(job, chunk));
+            }
+            job.complete();
+        } catch (Exception e) {
+            logger.warn("Import {} failed", job.id, e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+            if (job.rowsImported.get() > 0) {
+                logService.logEntityBatchCreate(job.username, userId, "BABY", job.babyId,
+                        job.kind == ImportJobDTO.Kind.RECORDS ? "IMPORT_RECORDS" : "IMPORT_MEASUREMENTS",
+                        job.rowsImported.get());
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private <T> void importRows(ImportJob job, InputStream in, Function<Map<String, String>, T> mapper,
+            Consumer<List<T>> writer) throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+        RowHandler handler = (row, values) -> {
+            job.rowsRead.incrementAndGet();
+            if (values == null) {
+                job.rowFailed(row, "Malformed row");
+                return;
+            }
+            try {
+                chunk.add(mapper.apply(values));
+            } catch (IllegalArgumentException e) {
+                job.rowFailed(row, e.getMessage());
+                return;
+            }
+            if (chunk.size() >= chunkSize) {
+                writer.accept(chunk);
+                chunk.clear();
+            }
+        };
+
+        if (job.format == ImportJobDTO.Format.JSON) {
+            readJson(in, handler);
+        } else {
+            readCsv(in, handler);
+        }
+        if (!chunk.isEmpty()) {
+            writer.accept(chunk);
+        }
+    }
+
+    // Checked again for every chunk: a baby deleted while its import runs fails the job rather than
+    // receiving rows nobody can see
+    private Baby liveBaby(ImportJob job) {
+        return babyRepository.findById(job.babyId)
+                .orElseThrow(() -> new RuntimeException("Baby was deleted during the import: " + job.babyId));
+    }
+
+    private void saveRecords(ImportJob job, List<Record> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Baby baby = liveBaby(job);
+
+            Set<String> clientKeys = chunk.stream()
+                    .map(Record::getClientKey)
+                    .filter(key -> key != null)
+                    .collect(Collectors.toCollection(HashSet::new));
+            Set<String> seen = clientKeys.isEmpty() ? new HashSet<>()
+                    : recordRepository.findByBabyIdAndClientKeyInIncludingDeleted(job.babyId, clientKeys).stream()
+                            .map(Record::getClientKey)
+                            .collect(Collectors.toCollection(HashSet::new));
+
+            List<Record> toInsert = new ArrayList<>(chunk.size());
+            for (Record record : chunk) {
+                if (record.getClientKey() != null && !seen.add(record.getClientKey())) {
+                    job.rowsSkipped.incrementAndGet();
+                    continue;
+                }
+                record.setBaby(baby);
+                record.setAuthor(job.username);
+                toInsert.add(record);
+            }
+            recordRepository.saveAll(toInsert);
+            recordRepository.flush();
+            job.rowsImported.addAndGet(toInsert.size());
+        });
+    }
+
+    private void saveMeasurements(ImportJob job, List<Measurement> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Baby baby = liveBaby(job);
+            for (Measurement measurement : chunk) {
+                measurement.setBaby(baby);
+                measurement.setAuthor(job.username);
+            }
+            measurementRepository.saveAll(chunk);
+            measurementRepository.flush();
+            job.rowsImported.addAndGet(chunk.size());
+        });
+    }
+
+    private Record toRecord(Map<String, String> values) {
+        Record record = Record.builder()
+                .type(values.get("type"))
+                .subType(values.get("subtype"))
+                .note(values.get("note"))
+                .startTime(requiredTime(values, "starttime"))
+                .endTime(optionalTime(values, "endtime"))
+                .clientKey(values.get("clientkey"))
+                .build();
+        if (record.getClientKey() != null && record.getClientKey().length() > MAX_CLIENT_KEY_LENGTH) {
+            throw new IllegalArgumentException("clientKey must be at most " + MAX_CLIENT_KEY_LENGTH + " characters");
+        }
+        if (record.getEndTime() != null && record.getEndTime().isBefore(record.getStartTime())) {
+            throw new IllegalArgumentException("endTime is before startTime");
+        }
+        validate(record);
+        return record;
+    }
+
+    private Measurement toMeasurement(Map<String, String> values) {
+        Measurement measurement = Measurement.builder()
+                .time(requiredTime(values, "time"))
+                .weight(optionalNumber(values, "weight"))
+                .height(optionalNumber(values, "height"))
+                .headCircumference(optionalNumber(values, "headcircumference"))
+                .build();
+        if (measurement.getWeight() == null && measurement.getHeight() == null
+                && measurement.getHeadCircumference() == null) {
+            throw new IllegalArgumentException("At least one of weight, height or headCircumference is required");
+        }
+        validate(measurement);
+        return measurement;
+    }
+
+    private <T> void validate(T entity) {
+        Set<ConstraintViolation<T>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static LocalDateTime requiredTime(Map<String, String> values, String column) {
+        LocalDateTime time = optionalTime(values, column);
+        if (time == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return time;
+    }
+
+    // Accepts ISO-8601 local date-times, with either 'T' or a space between date and time
+    private static LocalDateTime optionalTime(Map<String, String> values, String column) {
+        String value = values.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " is not a valid date-time: " + value);
+        }
+    }
+
+    private static Double optionalNumber(Map<String, String> values, String column) {
+        String value = values.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            double number = Double.parseDouble(value);
+            if (!(number > 0) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException(column + " must be a positive number");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    // Column names are matched ignoring case, underscores and dashes: start_time, startTime and StartTime are the same
+    static String normalizeColumn(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "");
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        // values is null when the row could not be parsed
+        void accept(long row, Map<String, String> values);
+    }
+
+    private void readJson(InputStream in, RowHandler handler) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON import must be an array of objects");
+            }
+            long row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                row++;
+                JsonNode node = objectMapper.readTree(parser);
+                if (!node.isObject()) {
+                    handler.accept(row, null);
+                    continue;
+                }
+                Map<String, String> values = new HashMap<>();
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    if (!field.getValue().isNull() && !field.getValue().asText().isBlank()) {
+                        values.put(normalizeColumn(field.getKey()), field.getValue().asText().trim());
+                    }
+                }
+                handler.accept(row, values);
+            }
+        }
+    }
+
+    private static void readCsv(InputStream in, RowHandler handler) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> headerFields = readCsvRecord(reader);
+        if (headerFields == null) {
+            return;
+        }
+        if (headerFields.get(0).startsWith("\uFEFF")) {
+            headerFields.set(0, headerFields.get(0).substring(1));
+        }
+        List<String> header = headerFields.stream().map(ImportServiceImpl::normalizeColumn).toList();
+
+        long row = 0;
+        while (true) {
+            List<String> fields;
+            try {
+                fields = readCsvRecord(reader);
+            } catch (IllegalArgumentException e) {
+                // An unterminated quote runs to the end of the input, so this is the last row
+                handler.accept(++row, null);
+                return;
+            }
+            if (fields == null) {
+                return;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            if (fields.size() > header.size()) {
+                handler.accept(row, null);
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(i), value);
+                }
+            }
+            handler.accept(row, values);
+        }
+    }
+
+    // Next RFC 4180 record, or null at the end of the input: commas separate, quotes wrap, "" is a literal
+    // quote, and a quoted field may span lines (notes written by our own CSV export do)
+    static List<String> readCsvRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (; c != -1; c = reader.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    current.append((char) c);
+                    continue;
+                }
+                c = reader.read();
+                if (c == '"') {
+                    current.append('"');
+                    continue;
+                }
+                quoted = false;
+                if (c == -1) {
+                    break;
+                }
+            }
+            if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                current.append((char) c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
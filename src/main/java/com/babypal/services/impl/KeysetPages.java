@@ -0,0 +1,39 @@
+package com.babypal.services.impl;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import com.babypal.dtos.CursorPage;
+
+/**
+ * Reads one page of a keyset-paginated listing. The specification is expected to already skip rows up to
+ * the client's cursor (see {@code CommonSpecifications.keysetAfter} and {@code idAfter}).
+ */
+final class KeysetPages {
+
+    private KeysetPages() {
+    }
+
+    /**
+     * Up to {@code limit} rows in {@code order}, with {@code limit} clamped to 1..{@code maxPageSize}.
+     * {@code cursorOf} encodes the position of the last row when there is a next page.
+     */
+    static <T> CursorPage<T> page(JpaSpecificationExecutor<T> repository, Specification<T> spec, Sort order,
+            int limit, int maxPageSize, Function<T, String> cursorOf) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+
+        // Fetch one extra row to know whether there is a next page
+        List<T> rows = repository.findBy(spec, query -> query.sortBy(order).limit(pageSize + 1).all());
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(pageSize - 1));
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+}
@@ -0,0 +1,73 @@
+package com.babypal.services.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.babypal.models.LogOutbox;
+import com.babypal.repositories.LogOutboxRepository;
+import com.babypal.repositories.LogRepository;
+
+/**
+ * Drains {@code log_outbox} into {@code log}. Each batch is claimed, copied and deleted in one
+ * transaction; rows locked by another instance are skipped rather than waited on.
+ */
+@Component
+public class LogOutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(LogOutboxRelay.class);
+
+    private final LogOutboxRepository outboxRepository;
+    private final LogRepository logRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicLong relayed = new AtomicLong();
+
+    public LogOutboxRelay(LogOutboxRepository outboxRepository, LogRepository logRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.app.auditLog.outbox.batchSize:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.logRepository = logRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.app.auditLog.outbox.relayIntervalMs:1000}")
+    public void relay() {
+        try {
+            int moved;
+            do {
+                moved = relayBatch();
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            // Rows stay in the outbox and are picked up on the next run
+            logger.warn("Audit outbox relay failed", e);
+        }
+    }
+
+    int relayBatch() {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<LogOutbox> batch = outboxRepository.findRelayBatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            logRepository.saveAll(batch.stream().map(LogOutbox::toLog).toList());
+            outboxRepository.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        relayed.addAndGet(moved);
+        return moved;
+    }
+
+    public long getRelayedCount() {
+        return relayed.get();
+    }
+}
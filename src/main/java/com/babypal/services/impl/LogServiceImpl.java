@@ -1,19 +1,57 @@
 package com.babypal.services.impl;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LogSearchCriteria;
 import com.babypal.models.Log;
+import com.babypal.models.LogOutbox;
+import com.babypal.repositories.CommonSpecifications;
+import com.babypal.repositories.LogOutboxRepository;
 import com.babypal.repositories.LogRepository;
+import com.babypal.repositories.LogSpecifications;
 import com.babypal.services.LogService;
+import com.babypal.util.KeysetCursor;
 
 @Service
 public class LogServiceImpl implements LogService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final LogRepository logRepository;
+    private final BufferedLogWriter logWriter;
+    private final ReadAuditAggregator readAudit;
+    private final LogOutboxRepository outboxRepository;
 
-    public LogServiceImpl(LogRepository logRepository) {
+    public LogServiceImpl(LogRepository logRepository, BufferedLogWriter logWriter,
+            ReadAuditAggregator readAudit, LogOutboxRepository outboxRepository) {
         this.logRepository = logRepository;
+        this.logWriter = logWriter;
+        this.readAudit = readAudit;
+        this.outboxRepository = outboxRepository;
+    }
+
+    // Entries are persisted asynchronously, so the event time is captured here rather than at insert
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
+    }
+
+    // Inside a write transaction the entry goes to the outbox and commits (or rolls back) with the
+    // change it describes; LogOutboxRelay later moves it into the log table
+    private Log writeEntityChange(Log log) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            outboxRepository.save(LogOutbox.from(log));
+            return log;
+        }
+        return logWriter.write(log, false);
     }
 
     // @Override
@@ -37,6 +75,15 @@ public class LogServiceImpl implements LogService {
     public List<Log> getAllLogs() {
         return logRepository.findAll();
     }
+
+    @Override
+    public CursorPage<Log> searchLogs(LogSearchCriteria criteria, String cursor, int limit) {
+        return KeysetPages.page(logRepository,
+                LogSpecifications.matching(criteria)
+                        .and(CommonSpecifications.keysetAfter("createdAt", KeysetCursor.decode(cursor))),
+                KEYSET_ORDER, limit, MAX_PAGE_SIZE,
+                last -> new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+    }
     
     @Override
     public Log logSignInSuccess(String username, Long userId) {
@@ -46,8 +93,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("SIGN_IN")
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -58,8 +106,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("SIGN_IN_FAILED")
                 .statusCode("401")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -70,8 +119,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("SIGN_OUT")
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -82,8 +132,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("SIGN_UP")
                 .statusCode("201")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -94,8 +145,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(entityId)
                 .action(action)
                 .statusCode("201")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return writeEntityChange(log);
     }
     
     @Override
@@ -106,8 +158,24 @@ public class LogServiceImpl implements LogService {
                 .typeId(entityId)
                 .action(action)
                 .statusCode("200")
+                .createdAt(now())
+                .build();
+        return writeEntityChange(log);
+    }
+    
+    @Override
+    public Log logEntityBatchCreate(String username, Long userId, String entityType, Long entityId, String action,
+            long count) {
+        Log log = Log.builder()
+                .username(username)
+                .type(entityType)
+                .typeId(entityId)
+                .action(action)
+                .statusCode("201")
+                .eventCount(count)
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return writeEntityChange(log);
     }
     
     @Override
@@ -118,20 +186,36 @@ public class LogServiceImpl implements LogService {
                 .typeId(entityId)
                 .action(action)
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return writeEntityChange(log);
     }
     
     @Override
     public Log logEntityRead(String username, Long userId, String entityType, Long entityId, String action) {
+        ReadAuditAggregator.Policy policy = readAudit.policyFor(action);
+        switch (policy.mode()) {
+            case AGGREGATE:
+                readAudit.count(username, entityType, entityId, action, now());
+                return null;
+            case SAMPLE:
+                if (!readAudit.sampled(policy)) {
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
         Log log = Log.builder()
                 .username(username)
                 .type(entityType)
                 .typeId(entityId)
                 .action(action)
                 .statusCode("200")
+                .eventCount(policy.mode() == ReadAuditAggregator.Mode.SAMPLE ? (long) policy.sampleRate() : null)
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, true);
     }
     
     @Override
@@ -142,8 +226,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(targetId)
                 .action(action)
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -154,8 +239,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("CREDENTIALS_UPDATE")
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -166,8 +252,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("TWO_FACTOR_ENABLE")
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -178,8 +265,9 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action("TWO_FACTOR_DISABLE")
                 .statusCode("200")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
     
     @Override
@@ -190,7 +278,8 @@ public class LogServiceImpl implements LogService {
                 .typeId(userId)
                 .action(success ? "TWO_FACTOR_VERIFY_SUCCESS" : "TWO_FACTOR_VERIFY_FAILED")
                 .statusCode(success ? "200" : "401")
+                .createdAt(now())
                 .build();
-        return logRepository.save(log);
+        return logWriter.write(log, false);
     }
 }
@@ -1,34 +1,52 @@
 package com.babypal.services.impl;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
+
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.LatestMeasurementDTO;
 import com.babypal.exceptions.UnauthorizedAccessException;
 import com.babypal.models.Baby;
 import com.babypal.models.Measurement;
-import com.babypal.models.User;
+import com.babypal.models.Tombstone;
 import com.babypal.repositories.MeasurementRepository;
 import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.TombstoneRepository;
+import com.babypal.repositories.MeasurementSpecifications;
+import com.babypal.repositories.CommonSpecifications;
 import com.babypal.services.LogService;
 import com.babypal.services.MeasurementService;
-import com.babypal.services.UserService;
+import com.babypal.util.AuthUtil;
+import com.babypal.util.KeysetCursor;
 
 @Service
 public class MeasurementServiceImpl implements MeasurementService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("time"), Sort.Order.desc("id"));
+
     private final MeasurementRepository measurementRepository;
     private final BabyRepository babyRepository;
     private final LogService logService;
-    private final UserService userService;
+    private final AuthUtil authUtil;
+    private final TombstoneRepository tombstoneRepository;
 
-    public MeasurementServiceImpl(MeasurementRepository measurementRepository, BabyRepository babyRepository, LogService logService, UserService userService) {
+    public MeasurementServiceImpl(MeasurementRepository measurementRepository, BabyRepository babyRepository, LogService logService, AuthUtil authUtil,
+            TombstoneRepository tombstoneRepository) {
         this.measurementRepository = measurementRepository;
         this.babyRepository = babyRepository;
         this.logService = logService;
-        this.userService = userService;
+        this.authUtil = authUtil;
+        this.tombstoneRepository = tombstoneRepository;
     }
 
     private boolean isAdmin() {
@@ -37,6 +55,7 @@ public class MeasurementServiceImpl implements MeasurementService {
     }
 
     @Override
+    @Transactional
     public Measurement createMeasurement(Measurement measurement, String username) {
         Baby baby = babyRepository.findById(measurement.getBaby().getId())
                 .orElseThrow(() -> new RuntimeException("Baby not found"));
@@ -50,13 +69,13 @@ public class MeasurementServiceImpl implements MeasurementService {
         Measurement savedMeasurement = measurementRepository.save(measurement);
         
         // Log measurement creation
-        User user = userService.findByUsername(username);
-        logService.logEntityCreate(username, user.getUserId(), "MEASUREMENT", savedMeasurement.getId(), "CREATE_MEASUREMENT");
+        logService.logEntityCreate(username, authUtil.userIdOf(username), "MEASUREMENT", savedMeasurement.getId(), "CREATE_MEASUREMENT");
         
         return savedMeasurement;
     }
 
     @Override
+    @Transactional
     public Measurement updateMeasurement(Long measurementId, Measurement measurementDetails, String username) {
         Measurement existingMeasurement = measurementRepository.findById(measurementId)
                 .orElseThrow(() -> new RuntimeException("Measurement not found with id: " + measurementId));
@@ -65,7 +84,10 @@ public class MeasurementServiceImpl implements MeasurementService {
             throw new UnauthorizedAccessException("Only admins and the author can update this measurement");
         }
 
-        existingMeasurement.setTime(measurementDetails.getTime());
+        // time is part of the listing keyset, so it is never cleared once set
+        if (measurementDetails.getTime() != null) {
+            existingMeasurement.setTime(measurementDetails.getTime());
+        }
         existingMeasurement.setWeight(measurementDetails.getWeight());
         existingMeasurement.setHeight(measurementDetails.getHeight());
         existingMeasurement.setHeadCircumference(measurementDetails.getHeadCircumference());
@@ -73,13 +95,13 @@ public class MeasurementServiceImpl implements MeasurementService {
         Measurement updatedMeasurement = measurementRepository.save(existingMeasurement);
         
         // Log measurement update
-        User user = userService.findByUsername(username);
-        logService.logEntityUpdate(username, user.getUserId(), "MEASUREMENT", measurementId, "UPDATE_MEASUREMENT");
+        logService.logEntityUpdate(username, authUtil.userIdOf(username), "MEASUREMENT", measurementId, "UPDATE_MEASUREMENT");
         
         return updatedMeasurement;
     }
 
     @Override
+    @Transactional
     public void deleteMeasurement(Long measurementId, String username) {
         Measurement existingMeasurement = measurementRepository.findById(measurementId)
                 .orElseThrow(() -> new RuntimeException("Measurement not found with id: " + measurementId));
@@ -88,11 +110,13 @@ public class MeasurementServiceImpl implements MeasurementService {
             throw new UnauthorizedAccessException("Only admins and the author can delete this measurement");
         }
 
-        measurementRepository.delete(existingMeasurement);
+        tombstoneRepository.save(Tombstone.of("MEASUREMENT", measurementId, existingMeasurement.getBaby().getId(),
+                Tombstone.audienceOf(existingMeasurement.getBaby())));
+        existingMeasurement.setDeletedAt(ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime());
+        measurementRepository.save(existingMeasurement);
         
         // Log measurement deletion
-        User user = userService.findByUsername(username);
-        logService.logEntityDelete(username, user.getUserId(), "MEASUREMENT", measurementId, "DELETE_MEASUREMENT");
+        logService.logEntityDelete(username, authUtil.userIdOf(username), "MEASUREMENT", measurementId, "DELETE_MEASUREMENT");
     }
 
     @Override
@@ -101,8 +125,7 @@ public class MeasurementServiceImpl implements MeasurementService {
                 .orElseThrow(() -> new RuntimeException("Measurement not found with id: " + measurement));
 
         // Log measurement read
-        User user = userService.findByUsername(username);
-        logService.logEntityRead(username, user.getUserId(), "MEASUREMENT", measurement, "GET_MEASUREMENT");
+        logService.logEntityRead(username, authUtil.userIdOf(username), "MEASUREMENT", measurement, "GET_MEASUREMENT");
 
         return existingMeasurement;
     }
@@ -112,6 +135,56 @@ public class MeasurementServiceImpl implements MeasurementService {
         return measurementRepository.findByAuthor(username);
     }
 
+    @Override
+    public CursorPage<Measurement> getMeasurementsByBabyId(Long babyId, String username, LocalDateTime from,
+            LocalDateTime to, String cursor, int limit) {
+        checkCanReadBaby(babyId, username);
+
+        CursorPage<Measurement> page = KeysetPages.page(measurementRepository,
+                MeasurementSpecifications.forBaby(babyId)
+                        .and(MeasurementSpecifications.takenFrom(from))
+                        .and(MeasurementSpecifications.takenBefore(to))
+                        .and(CommonSpecifications.keysetAfter("time", KeysetCursor.decode(cursor))),
+                KEYSET_ORDER, limit, MAX_PAGE_SIZE, last -> new KeysetCursor(last.getTime(), last.getId()).encode());
+
+        logService.logEntityRead(username, authUtil.userIdOf(username), "BABY", babyId, "LIST_MEASUREMENTS");
+
+        return page;
+    }
+
+    @Override
+    public LatestMeasurementDTO getLatestMeasurementByBabyId(Long babyId, String username) {
+        checkCanReadBaby(babyId, username);
+
+        LatestMeasurementDTO latest = new LatestMeasurementDTO();
+        measurementRepository.findFirstByBabyIdAndWeightIsNotNullOrderByTimeDescIdDesc(babyId)
+                .ifPresent(m -> {
+                    latest.setWeight(m.getWeight());
+                    latest.setWeightTime(m.getTime());
+                });
+        measurementRepository.findFirstByBabyIdAndHeightIsNotNullOrderByTimeDescIdDesc(babyId)
+                .ifPresent(m -> {
+                    latest.setHeight(m.getHeight());
+                    latest.setHeightTime(m.getTime());
+                });
+        measurementRepository.findFirstByBabyIdAndHeadCircumferenceIsNotNullOrderByTimeDescIdDesc(babyId)
+                .ifPresent(m -> {
+                    latest.setHeadCircumference(m.getHeadCircumference());
+                    latest.setHeadCircumferenceTime(m.getTime());
+                });
+        return latest;
+    }
+
+    private void checkCanReadBaby(Long babyId, String username) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getOwner().equals(username)
+                && (baby.getCaregivers() == null || !baby.getCaregivers().contains(username))) {
+            throw new UnauthorizedAccessException("Only admins and caregivers can see this baby's measurements");
+        }
+    }
+
     @Override
     public List<Measurement> getAllMeasurements() {
         return measurementRepository.findAll();
@@ -0,0 +1,157 @@
+package com.babypal.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.babypal.models.Log;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Decides how a read audit event is recorded. Each action has one of three policies:
+ * <ul>
+ * <li>{@code always} - every read is written as its own row.</li>
+ * <li>{@code sample:N} - roughly one read in N is written, with {@code eventCount = N}.</li>
+ * <li>{@code aggregate} - reads are counted in memory and written as one row per
+ * (user, entity, action, minute) with the total in {@code eventCount}.</li>
+ * </ul>
+ * Policies only ever apply to reads; writes, authentication and admin events bypass this class.
+ */
+@Component
+public class ReadAuditAggregator {
+
+    public enum Mode {
+        ALWAYS, SAMPLE, AGGREGATE
+    }
+
+    public record Policy(Mode mode, int sampleRate) {
+        static final Policy ALWAYS = new Policy(Mode.ALWAYS, 1);
+
+        static Policy parse(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            if (normalized.equals("always")) {
+                return ALWAYS;
+            }
+            if (normalized.equals("aggregate")) {
+                return new Policy(Mode.AGGREGATE, 1);
+            }
+            if (normalized.startsWith("sample:")) {
+                int rate = Integer.parseInt(normalized.substring("sample:".length()).trim());
+                if (rate < 1) {
+                    throw new IllegalArgumentException("Sample rate must be at least 1: " + value);
+                }
+                return rate == 1 ? ALWAYS : new Policy(Mode.SAMPLE, rate);
+            }
+            throw new IllegalArgumentException("Unknown read audit policy: " + value);
+        }
+    }
+
+    private record Key(String username, String type, Long typeId, String action, LocalDateTime minute) {
+    }
+
+    private final BufferedLogWriter logWriter;
+    private final Policy defaultPolicy;
+    private final Map<String, Policy> policies;
+    private final ConcurrentHashMap<Key, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public ReadAuditAggregator(BufferedLogWriter logWriter,
+            @Value("${spring.app.auditLog.readPolicy.default:always}") String defaultPolicy,
+            @Value("${spring.app.auditLog.readPolicy.actions:}") String actionPolicies) {
+        this.logWriter = logWriter;
+        this.defaultPolicy = Policy.parse(defaultPolicy);
+        this.policies = parsePolicies(actionPolicies);
+    }
+
+    // Format: GET_BABY=aggregate,GET_GROWTH_GUIDE=sample:10
+    static Map<String, Policy> parsePolicies(String actionPolicies) {
+        Map<String, Policy> parsed = new HashMap<>();
+        if (actionPolicies == null || actionPolicies.isBlank()) {
+            return Map.of();
+        }
+        for (String entry : actionPolicies.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected ACTION=policy but got: " + entry);
+            }
+            parsed.put(entry.substring(0, separator).trim(), Policy.parse(entry.substring(separator + 1)));
+        }
+        return Map.copyOf(parsed);
+    }
+
+    public Policy policyFor(String action) {
+        return policies.getOrDefault(action, defaultPolicy);
+    }
+
+    /**
+     * Returns true when a read under a {@code sample:N} policy should be written.
+     */
+    public boolean sampled(Policy policy) {
+        return ThreadLocalRandom.current().nextInt(policy.sampleRate()) == 0;
+    }
+
+    public void count(String username, String type, Long typeId, String action, LocalDateTime at) {
+        Key key = new Key(username, type, typeId, action, at.truncatedTo(ChronoUnit.MINUTES));
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    public int getPendingBucketCount() {
+        return counters.size();
+    }
+
+    // A bucket is only flushed once its minute is over plus one more, so a reader that
+    // captured its timestamp just before the minute rolled over has finished counting
+    @Scheduled(fixedDelayString = "${spring.app.auditLog.readPolicy.flushIntervalMs:60000}")
+    void flushCompletedMinutes() {
+        LocalDateTime cutoff = ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime()
+                .truncatedTo(ChronoUnit.MINUTES)
+                .minusMinutes(1);
+        flush(cutoff);
+    }
+
+    @PreDestroy
+    void flushAll() {
+        flush(null);
+    }
+
+    void flush(LocalDateTime before) {
+        for (Key key : counters.keySet()) {
+            if (before != null && !key.minute().isBefore(before)) {
+                continue;
+            }
+            LongAdder adder = counters.remove(key);
+            if (adder == null) {
+                continue;
+            }
+            long total = adder.sum();
+            if (total == 0) {
+                continue;
+            }
+            Log log = Log.builder()
+                    .username(key.username())
+                    .type(key.type())
+                    .typeId(key.typeId())
+                    .action(key.action())
+                    .statusCode("200")
+                    .eventCount(total)
+                    .createdAt(key.minute())
+                    .build();
+            // One row stands in for many reads, so it is not eligible to be dropped under load
+            logWriter.write(log, false);
+        }
+    }
+}
@@ -1,34 +1,67 @@
 package com.babypal.services.impl;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.RecordBatchResultDTO;
 import com.babypal.exceptions.UnauthorizedAccessException;
 import com.babypal.models.Baby;
 import com.babypal.models.Record;
-import com.babypal.models.User;
+import com.babypal.models.Tombstone;
 import com.babypal.repositories.RecordRepository;
 import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.TombstoneRepository;
+import com.babypal.repositories.RecordSpecifications;
+import com.babypal.repositories.CommonSpecifications;
 import com.babypal.services.LogService;
 import com.babypal.services.RecordService;
-import com.babypal.services.UserService;
+import com.babypal.util.AuthUtil;
+import com.babypal.util.KeysetCursor;
 
 @Service
 public class RecordServiceImpl implements RecordService {
+    private static final Logger logger = LoggerFactory.getLogger(RecordServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_CLIENT_KEY_LENGTH = 64;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("startTime"), Sort.Order.desc("id"));
+
     private final RecordRepository recordRepository;
     private final BabyRepository babyRepository;
     private final LogService logService;
-    private final UserService userService;
+    private final AuthUtil authUtil;
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    public RecordServiceImpl(RecordRepository recordRepository, BabyRepository babyRepository, LogService logService, UserService userService) {
+    public RecordServiceImpl(RecordRepository recordRepository, BabyRepository babyRepository, LogService logService, AuthUtil authUtil,
+            TombstoneRepository tombstoneRepository, PlatformTransactionManager transactionManager) {
         this.recordRepository = recordRepository;
         this.babyRepository = babyRepository;
         this.logService = logService;
-        this.userService = userService;
+        this.authUtil = authUtil;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     private boolean isAdmin() {
@@ -37,6 +70,7 @@ public class RecordServiceImpl implements RecordService {
     }
 
     @Override
+    @Transactional
     public Record createRecord(Record record, String username) {
         Baby baby = babyRepository.findById(record.getBaby().getId())
                 .orElseThrow(() -> new RuntimeException("Baby not found"));
@@ -50,13 +84,128 @@ public class RecordServiceImpl implements RecordService {
         Record savedRecord = recordRepository.save(record);
         
         // Log record creation
-        User user = userService.findByUsername(username);
-        logService.logEntityCreate(username, user.getUserId(), "RECORD", savedRecord.getId(), "CREATE_RECORD");
+        logService.logEntityCreate(username, authUtil.userIdOf(username), "RECORD", savedRecord.getId(), "CREATE_RECORD");
         
         return savedRecord;
     }
 
     @Override
+    public RecordBatchResultDTO createRecordsBatch(Long babyId, List<Record> records, String username) {
+        if (records == null || records.isEmpty()) {
+            throw new RuntimeException("Batch must contain at least one record");
+        }
+        if (records.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("Batch may contain at most " + MAX_BATCH_SIZE + " records");
+        }
+
+        try {
+            return transactionTemplate.execute(status -> insertBatch(babyId, records, username));
+        } catch (DataIntegrityViolationException e) {
+            // Another replay of the same keys committed between our lookup and our insert (reconnect storms
+            // resend queued batches in parallel). That transaction is rolled back; a fresh attempt now finds
+            // those keys and reports them as duplicates.
+            logger.debug("Client key conflict on batch for baby {}, retrying once", babyId);
+            return transactionTemplate.execute(status -> insertBatch(babyId, records, username));
+        }
+    }
+
+    private RecordBatchResultDTO insertBatch(Long babyId, List<Record> records, String username) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getCaregivers().contains(username)) {
+            throw new UnauthorizedAccessException("Only caregivers can create records");
+        }
+
+        // Keys already stored for this baby, so replayed uploads resolve to the original records
+        Set<String> clientKeys = new HashSet<>();
+        for (Record item : records) {
+            if (item.getClientKey() != null) {
+                clientKeys.add(item.getClientKey());
+            }
+        }
+        Map<String, Record> byClientKey = new HashMap<>();
+        if (!clientKeys.isEmpty()) {
+            for (Record existing : recordRepository.findByBabyIdAndClientKeyInIncludingDeleted(babyId, clientKeys)) {
+                byClientKey.put(existing.getClientKey(), existing);
+            }
+        }
+
+        int size = records.size();
+        Record[] resolved = new Record[size];
+        RecordBatchResultDTO.Status[] statuses = new RecordBatchResultDTO.Status[size];
+        String[] errors = new String[size];
+        List<Record> toInsert = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            Record item = records.get(i);
+            String clientKey = item.getClientKey();
+            if (item.getType() == null || item.getType().isBlank()) {
+                statuses[i] = RecordBatchResultDTO.Status.REJECTED;
+                errors[i] = "Record type is required";
+                continue;
+            }
+            if (clientKey != null && clientKey.length() > MAX_CLIENT_KEY_LENGTH) {
+                statuses[i] = RecordBatchResultDTO.Status.REJECTED;
+                errors[i] = "clientKey must be at most " + MAX_CLIENT_KEY_LENGTH + " characters";
+                continue;
+            }
+            if (clientKey != null && byClientKey.containsKey(clientKey)) {
+                // Stored earlier, or repeated within this batch
+                Record stored = byClientKey.get(clientKey);
+                resolved[i] = stored;
+                statuses[i] = stored.getDeletedAt() != null
+                        ? RecordBatchResultDTO.Status.DELETED
+                        : RecordBatchResultDTO.Status.DUPLICATE;
+                continue;
+            }
+
+            Record newRecord = Record.builder()
+                    .baby(baby)
+                    .author(username)
+                    .type(item.getType())
+                    .subType(item.getSubType())
+                    .note(item.getNote())
+                    .startTime(item.getStartTime())
+                    .endTime(item.getEndTime())
+                    .clientKey(clientKey)
+                    .build();
+            toInsert.add(newRecord);
+            resolved[i] = newRecord;
+            statuses[i] = RecordBatchResultDTO.Status.CREATED;
+            if (clientKey != null) {
+                byClientKey.put(clientKey, newRecord);
+            }
+        }
+
+        // Ids come from the pooled sequence on persist; the inserts are sent as JDBC batches on the flush,
+        // which happens here so a client key conflict surfaces as an exception the caller can retry on
+        recordRepository.saveAllAndFlush(toInsert);
+
+        List<RecordBatchResultDTO.Item> results = new ArrayList<>(size);
+        int duplicates = 0;
+        int rejected = 0;
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] == RecordBatchResultDTO.Status.DUPLICATE
+                    || statuses[i] == RecordBatchResultDTO.Status.DELETED) {
+                duplicates++;
+            } else if (statuses[i] == RecordBatchResultDTO.Status.REJECTED) {
+                rejected++;
+            }
+            results.add(new RecordBatchResultDTO.Item(i, records.get(i).getClientKey(), statuses[i],
+                    resolved[i] != null ? resolved[i].getId() : null, errors[i]));
+        }
+
+        if (!toInsert.isEmpty()) {
+            logService.logEntityBatchCreate(username, authUtil.userIdOf(username), "BABY", babyId,
+                    "CREATE_RECORDS_BATCH", toInsert.size());
+        }
+
+        return new RecordBatchResultDTO(toInsert.size(), duplicates, rejected, results);
+    }
+
+    @Override
+    @Transactional
     public Record updateRecord(Long recordId, Record recordDetails, String username) {
         Record existingRecord = recordRepository.findById(recordId)
                 .orElseThrow(() -> new RuntimeException("Record not found with id: " + recordId));
@@ -68,19 +217,22 @@ public class RecordServiceImpl implements RecordService {
         existingRecord.setType(recordDetails.getType());
         existingRecord.setSubType(recordDetails.getSubType());
         existingRecord.setNote(recordDetails.getNote());
-        existingRecord.setStartTime(recordDetails.getStartTime());
+        // startTime is part of the listing keyset, so it is never cleared once set
+        if (recordDetails.getStartTime() != null) {
+            existingRecord.setStartTime(recordDetails.getStartTime());
+        }
         existingRecord.setEndTime(recordDetails.getEndTime());
 
         Record updatedRecord = recordRepository.save(existingRecord);
         
         // Log record update
-        User user = userService.findByUsername(username);
-        logService.logEntityUpdate(username, user.getUserId(), "RECORD", recordId, "UPDATE_RECORD");
+        logService.logEntityUpdate(username, authUtil.userIdOf(username), "RECORD", recordId, "UPDATE_RECORD");
         
         return updatedRecord;
     }
 
     @Override
+    @Transactional
     public void deleteRecord(Long recordId, String username) {
         Record existingRecord = recordRepository.findById(recordId)
                 .orElseThrow(() -> new RuntimeException("Record not found with id: " + recordId));
@@ -89,11 +241,13 @@ public class RecordServiceImpl implements RecordService {
             throw new UnauthorizedAccessException("Only admins and the author can delete this record");
         }
 
-        recordRepository.delete(existingRecord);
+        tombstoneRepository.save(Tombstone.of("RECORD", recordId, existingRecord.getBaby().getId(),
+                Tombstone.audienceOf(existingRecord.getBaby())));
+        existingRecord.setDeletedAt(ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime());
+        recordRepository.save(existingRecord);
         
         // Log record deletion
-        User user = userService.findByUsername(username);
-        logService.logEntityDelete(username, user.getUserId(), "RECORD", recordId, "DELETE_RECORD");
+        logService.logEntityDelete(username, authUtil.userIdOf(username), "RECORD", recordId, "DELETE_RECORD");
     }
 
     @Override
@@ -102,8 +256,7 @@ public class RecordServiceImpl implements RecordService {
                 .orElseThrow(() -> new RuntimeException("Record not found with id: " + record));
 
         // Log record read
-        User user = userService.findByUsername(username);
-        logService.logEntityRead(username, user.getUserId(), "RECORD", record, "GET_RECORD");
+        logService.logEntityRead(username, authUtil.userIdOf(username), "RECORD", record, "GET_RECORD");
 
         return existingRecord;
     }
@@ -113,6 +266,32 @@ public class RecordServiceImpl implements RecordService {
         return recordRepository.findByAuthor(username);
     }
 
+    @Override
+    public CursorPage<Record> getRecordsByBabyId(Long babyId, String username, String type, String subType,
+            LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getOwner().equals(username)
+                && (baby.getCaregivers() == null || !baby.getCaregivers().contains(username))) {
+            throw new UnauthorizedAccessException("Only admins and caregivers can see this baby's records");
+        }
+
+        CursorPage<Record> page = KeysetPages.page(recordRepository,
+                RecordSpecifications.forBaby(babyId)
+                        .and(RecordSpecifications.hasType(type))
+                        .and(RecordSpecifications.hasSubType(subType))
+                        .and(RecordSpecifications.startsFrom(from))
+                        .and(RecordSpecifications.startsBefore(to))
+                        .and(CommonSpecifications.keysetAfter("startTime", KeysetCursor.decode(cursor))),
+                KEYSET_ORDER, limit, MAX_PAGE_SIZE,
+                last -> new KeysetCursor(last.getStartTime(), last.getId()).encode());
+
+        logService.logEntityRead(username, authUtil.userIdOf(username), "BABY", babyId, "LIST_RECORDS");
+
+        return page;
+    }
+
     @Override
     public List<Record> getAllRecords() {
         return recordRepository.findAll();
@@ -0,0 +1,98 @@
+package com.babypal.services.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hard-deletes babies, records and measurements that were soft-deleted more than
+ * {@code purgeAfterDays} ago. Rows go in fixed-size chunks, each its own short auto-committed
+ * statement, so a baby with years of history never turns into one long transaction.
+ * The entities hide soft-deleted rows from every JPA query, hence plain SQL here.
+ */
+@Component
+public class SoftDeletePurger {
+    private static final Logger logger = LoggerFactory.getLogger(SoftDeletePurger.class);
+
+    private static final String PURGE_RECORDS = "DELETE FROM record WHERE id IN "
+            + "(SELECT id FROM record WHERE deleted_at < ? LIMIT ?)";
+    private static final String PURGE_MEASUREMENTS = "DELETE FROM measurement WHERE id IN "
+            + "(SELECT id FROM measurement WHERE deleted_at < ? LIMIT ?)";
+    // Children of an expired baby go whatever their own deleted_at: one inserted while the baby was being
+    // deleted is still live, and would otherwise keep the baby row from ever being purged
+    private static final String PURGE_RECORDS_OF_BABIES = "DELETE FROM record WHERE id IN "
+            + "(SELECT r.id FROM record r WHERE r.baby IN (SELECT b.id FROM baby b WHERE b.deleted_at < ?) "
+            + "LIMIT ?)";
+    private static final String PURGE_MEASUREMENTS_OF_BABIES = "DELETE FROM measurement WHERE id IN "
+            + "(SELECT m.id FROM measurement m WHERE m.baby IN (SELECT b.id FROM baby b WHERE b.deleted_at < ?) "
+            + "LIMIT ?)";
+    // Guarded in case a child lands between the statements above and this one; the next run gets it
+    private static final String PURGE_BABIES = "DELETE FROM baby WHERE id IN "
+            + "(SELECT b.id FROM baby b WHERE b.deleted_at < ? "
+            + "AND NOT EXISTS (SELECT 1 FROM record r WHERE r.baby = b.id) "
+            + "AND NOT EXISTS (SELECT 1 FROM measurement m WHERE m.baby = b.id) LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int purgeAfterDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+
+    public SoftDeletePurger(JdbcTemplate jdbcTemplate,
+            @Value("${spring.app.softDelete.purgeAfterDays:7}") int purgeAfterDays,
+            @Value("${spring.app.softDelete.chunkSize:1000}") int chunkSize,
+            @Value("${spring.app.softDelete.chunkPauseMs:100}") long chunkPauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeAfterDays = purgeAfterDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    @Scheduled(cron = "${spring.app.softDelete.purgeCron:0 15 4 * * *}", zone = "Asia/Singapore")
+    public void purgeExpired() {
+        purge(ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime().minusDays(purgeAfterDays));
+    }
+
+    // Children first so the baby rows they point at can follow in the same run
+    void purge(LocalDateTime cutoff) {
+        long records = purgeInChunks(PURGE_RECORDS, cutoff) + purgeInChunks(PURGE_RECORDS_OF_BABIES, cutoff);
+        long measurements = purgeInChunks(PURGE_MEASUREMENTS, cutoff)
+                + purgeInChunks(PURGE_MEASUREMENTS_OF_BABIES, cutoff);
+        long babies = purgeInChunks(PURGE_BABIES, cutoff);
+        if (records + measurements + babies > 0) {
+            logger.info("Purged {} babies, {} records and {} measurements deleted before {}",
+                    babies, records, measurements, cutoff);
+        }
+    }
+
+    private long purgeInChunks(String sql, LocalDateTime cutoff) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, Timestamp.valueOf(cutoff), chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize && pauseBetweenChunks());
+        return total;
+    }
+
+    // Leaves room for regular traffic between chunks; stops early on shutdown
+    private boolean pauseBetweenChunks() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.babypal.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.SyncResponseDTO;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.models.Tombstone;
+import com.babypal.repositories.AccessGrantRepository;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.repositories.TombstoneRepository;
+import com.babypal.services.LogService;
+import com.babypal.services.SyncService;
+import com.babypal.util.AuthUtil;
+import com.babypal.util.KeysetCursor;
+import com.babypal.util.SyncCursor;
+
+/**
+ * Delta sync over the babies a user owns or cares for. Each source is read in (updated_at, id) order
+ * from its updated_at index and capped at {@code pageSize} rows. The watermark is a {@link SyncCursor}
+ * holding every source's own position, so a source cut short resumes right after its last returned
+ * row while the others carry on from where they caught up.
+ */
+@Service
+public class SyncServiceImpl implements SyncService {
+    private static final Logger logger = LoggerFactory.getLogger(SyncServiceImpl.class);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final BabyRepository babyRepository;
+    private final RecordRepository recordRepository;
+    private final MeasurementRepository measurementRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final AccessGrantRepository accessGrantRepository;
+    private final LogService logService;
+    private final AuthUtil authUtil;
+    private final int pageSize;
+    private final Duration overlap;
+    private final int tombstoneRetentionDays;
+
+    public SyncServiceImpl(BabyRepository babyRepository, RecordRepository recordRepository,
+            MeasurementRepository measurementRepository, TombstoneRepository tombstoneRepository,
+            AccessGrantRepository accessGrantRepository, LogService logService, AuthUtil authUtil,
+            @Value("${spring.app.sync.pageSize:500}") int pageSize,
+            @Value("${spring.app.sync.overlapMs:5000}") long overlapMs,
+            @Value("${spring.app.sync.tombstoneRetentionDays:90}") int tombstoneRetentionDays) {
+        this.babyRepository = babyRepository;
+        this.recordRepository = recordRepository;
+        this.measurementRepository = measurementRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.accessGrantRepository = accessGrantRepository;
+        this.logService = logService;
+        this.authUtil = authUtil;
+        this.pageSize = pageSize;
+        this.overlap = Duration.ofMillis(overlapMs);
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Singapore")).toLocalDateTime();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDTO getChangesSince(String username, String since) {
+        LocalDateTime now = now();
+        SyncCursor cursor = since != null ? SyncCursor.decode(since) : SyncCursor.startingAt(BEGINNING);
+        // Only the delete position matters here: the other sources can page through old rows freely,
+        // but tombstones before the retention window are gone
+        if (since != null && cursor.deleted().time().isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return new SyncResponseDTO(null, false, true, List.of(), List.of(), List.of(), List.of());
+        }
+        // A baby shared with this user since the last call comes with history the watermark has already
+        // passed; a grant shares the baby's updated_at transaction, so it is checked against that position
+        if (since != null && accessGrantRepository.existsByUsernameAndGrantedAtGreaterThanEqual(username,
+                cursor.babies())) {
+            return new SyncResponseDTO(null, false, true, List.of(), List.of(), List.of(), List.of());
+        }
+
+        // updated_at is stamped before commit, so a row stamped just before now may only become visible
+        // after this read; a source that caught up resumes a little earlier (at the cost of repeats)
+        LocalDateTime caughtUp = now.minus(overlap);
+        boolean hasMore = false;
+
+        List<Long> babyIds = babyRepository.findIdsByOwnerOrCaregiver(username);
+        List<BabySummaryDTO> babies = List.of();
+        List<Record> records = List.of();
+        List<Measurement> measurements = List.of();
+        KeysetCursor nextRecords = resumeAt(cursor.records(), caughtUp);
+        KeysetCursor nextMeasurements = resumeAt(cursor.measurements(), caughtUp);
+        if (!babyIds.isEmpty()) {
+            List<Long> changedBabyIds = since == null ? babyIds
+                    : babyRepository.findIdsUpdatedSince(babyIds, cursor.babies());
+            if (!changedBabyIds.isEmpty()) {
+                babies = babyRepository.findSummariesByIdIn(changedBabyIds, Sort.by("id"));
+            }
+
+            KeysetCursor from = cursor.records();
+            records = recordRepository.findChangedAfter(babyIds, from.time(), from.id(), Limit.of(pageSize + 1));
+            if (records.size() > pageSize) {
+                records = List.copyOf(records.subList(0, pageSize));
+                hasMore = true;
+                Record last = records.get(pageSize - 1);
+                nextRecords = new KeysetCursor(last.getUpdatedAt(), last.getId());
+            }
+
+            from = cursor.measurements();
+            measurements = measurementRepository.findChangedAfter(babyIds, from.time(), from.id(),
+                    Limit.of(pageSize + 1));
+            if (measurements.size() > pageSize) {
+                measurements = List.copyOf(measurements.subList(0, pageSize));
+                hasMore = true;
+                Measurement last = measurements.get(pageSize - 1);
+                nextMeasurements = new KeysetCursor(last.getUpdatedAt(), last.getId());
+            }
+        }
+
+        // A first sync has nothing to delete on the device
+        List<Tombstone> deleted = List.of();
+        KeysetCursor nextDeleted = resumeAt(cursor.deleted(), caughtUp);
+        if (since != null) {
+            KeysetCursor from = cursor.deleted();
+            deleted = tombstoneRepository.findVisibleAfter(username, from.time(), from.id(), Limit.of(pageSize + 1));
+            if (deleted.size() > pageSize) {
+                deleted = List.copyOf(deleted.subList(0, pageSize));
+                hasMore = true;
+                Tombstone last = deleted.get(pageSize - 1);
+                nextDeleted = new KeysetCursor(last.getDeletedAt(), last.getId());
+            }
+        }
+
+        logService.logEntityRead(username, authUtil.userIdOf(username), "SYNC", null, "SYNC");
+
+        LocalDateTime nextBabies = cursor.babies().isBefore(caughtUp) ? caughtUp : cursor.babies();
+        String watermark = new SyncCursor(nextBabies, nextRecords, nextMeasurements, nextDeleted).encode();
+        return new SyncResponseDTO(watermark, hasMore, false, babies, records, measurements, deleted);
+    }
+
+    // Position for a source that returned everything it had: just before the overlap window
+    private static KeysetCursor resumeAt(KeysetCursor position, LocalDateTime caughtUp) {
+        return position.time().isBefore(caughtUp) ? new KeysetCursor(caughtUp, Long.MIN_VALUE) : position;
+    }
+
+    // Clients whose watermark is older than this are told to resync in full instead
+    @Scheduled(cron = "${spring.app.sync.tombstonePurgeCron:0 45 3 * * *}", zone = "Asia/Singapore")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        LocalDateTime cutoff = now().minusDays(tombstoneRetentionDays);
+        int removed = tombstoneRepository.deleteOlderThan(cutoff);
+        int grants = accessGrantRepository.deleteOlderThan(cutoff);
+        if (removed + grants > 0) {
+            logger.info("Purged {} tombstones and {} access grants older than {} days", removed, grants,
+                    tombstoneRetentionDays);
+        }
+    }
+}
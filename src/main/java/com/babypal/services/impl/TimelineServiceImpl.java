@@ -0,0 +1,105 @@
+package com.babypal.services.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.babypal.dtos.CursorPage;
+import com.babypal.dtos.TimelineEntry;
+import com.babypal.exceptions.UnauthorizedAccessException;
+import com.babypal.models.Baby;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.CommonSpecifications;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.MeasurementSpecifications;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.repositories.RecordSpecifications;
+import com.babypal.services.LogService;
+import com.babypal.services.TimelineService;
+import com.babypal.util.AuthUtil;
+import com.babypal.util.SortedMerge;
+import com.babypal.util.TimelineCursor;
+
+/**
+ * A baby's records and measurements as one list, newest first. Each page runs one keyset query per
+ * source on its (baby, time, id) index, reading at most {@code limit + 1} rows from each, and merges the
+ * two ordered results.
+ */
+@Service
+public class TimelineServiceImpl implements TimelineService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort RECORD_ORDER = Sort.by(Sort.Order.desc("startTime"), Sort.Order.desc("id"));
+    private static final Sort MEASUREMENT_ORDER = Sort.by(Sort.Order.desc("time"), Sort.Order.desc("id"));
+    private static final Comparator<TimelineEntry> TIMELINE_ORDER = Comparator
+            .comparing(TimelineEntry::getTime, Comparator.reverseOrder())
+            .thenComparing(TimelineEntry::getKind)
+            .thenComparing(TimelineEntry::getId, Comparator.reverseOrder());
+
+    private final BabyRepository babyRepository;
+    private final RecordRepository recordRepository;
+    private final MeasurementRepository measurementRepository;
+    private final LogService logService;
+    private final AuthUtil authUtil;
+
+    public TimelineServiceImpl(BabyRepository babyRepository, RecordRepository recordRepository,
+            MeasurementRepository measurementRepository, LogService logService, AuthUtil authUtil) {
+        this.babyRepository = babyRepository;
+        this.recordRepository = recordRepository;
+        this.measurementRepository = measurementRepository;
+        this.logService = logService;
+        this.authUtil = authUtil;
+    }
+
+    private boolean isAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities()
+                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    @Override
+    public CursorPage<TimelineEntry> getTimeline(Long babyId, String username, String cursor, int limit) {
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new RuntimeException("Baby not found with id: " + babyId));
+
+        if (!isAdmin() && !baby.getOwner().equals(username)
+                && (baby.getCaregivers() == null || !baby.getCaregivers().contains(username))) {
+            throw new UnauthorizedAccessException("Only admins and caregivers can see this baby's timeline");
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TimelineCursor after = TimelineCursor.decode(cursor);
+
+        // Either source may supply the whole page, so each is asked for one more row than the page holds
+        List<Record> records = recordRepository.findBy(
+                RecordSpecifications.forBaby(babyId)
+                        .and(CommonSpecifications.keysetAfter("startTime", after == null ? null
+                                : after.forSource(TimelineEntry.Kind.RECORD))),
+                query -> query.sortBy(RECORD_ORDER).limit(pageSize + 1).all());
+        List<Measurement> measurements = measurementRepository.findBy(
+                MeasurementSpecifications.forBaby(babyId)
+                        .and(CommonSpecifications.keysetAfter("time", after == null ? null
+                                : after.forSource(TimelineEntry.Kind.MEASUREMENT))),
+                query -> query.sortBy(MEASUREMENT_ORDER).limit(pageSize + 1).all());
+
+        Iterator<TimelineEntry> merged = SortedMerge.merge(List.of(
+                records.stream().map(TimelineEntry::of).iterator(),
+                measurements.stream().map(TimelineEntry::of).iterator()), TIMELINE_ORDER);
+
+        List<TimelineEntry> page = new ArrayList<>(pageSize);
+        while (merged.hasNext() && page.size() < pageSize) {
+            page.add(merged.next());
+        }
+        String nextCursor = merged.hasNext() ? TimelineCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        logService.logEntityRead(username, authUtil.userIdOf(username), "BABY", babyId, "GET_TIMELINE");
+
+        return new CursorPage<>(page, nextCursor);
+    }
+}
@@ -8,6 +8,8 @@ import com.babypal.models.User;
 import com.babypal.repositories.PasswordResetTokenRepository;
 import com.babypal.repositories.RoleRepository;
 import com.babypal.repositories.UserRepository;
+import com.babypal.security.services.TokenRevocationService;
+import com.babypal.security.services.UserDetailsCache;
 import com.babypal.services.TotpService;
 import com.babypal.services.UserService;
 import com.babypal.util.EmailService;
@@ -45,6 +47,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     TotpService totpService;
 
+    @Autowired
+    UserDetailsCache userDetailsCache;
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
     @Value("${frontend.urls}")
     private String[] frontendUrls;
 
@@ -56,6 +64,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new RuntimeException("Role not found"));
         user.setRole(role);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        tokenRevocationService.revokeAllTokens(user.getUserName());
     }
 
     @Override
@@ -127,6 +137,8 @@ public class UserServiceImpl implements UserService {
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword)); 
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        tokenRevocationService.revokeAllTokens(user.getUserName());
 
         resetToken.setUsed(true);
         passwordResetTokenRepository.save(resetToken);
@@ -140,6 +152,8 @@ public class UserServiceImpl implements UserService {
                     .orElseThrow(() -> new RuntimeException("User not found"));
             user.setPassword(passwordEncoder.encode(password));
             userRepository.save(user);
+            userDetailsCache.invalidate(user.getUserName());
+            tokenRevocationService.revokeAllTokens(user.getUserName());
         } catch (Exception e) {
             throw new RuntimeException("Failed to update password");
         }
@@ -152,6 +166,10 @@ public class UserServiceImpl implements UserService {
                 -> new RuntimeException("User not found"));
         user.setAccountNonLocked(!lock);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        if (lock) {
+            tokenRevocationService.revokeAllTokens(user.getUserName());
+        }
     }
 
     @Override
@@ -160,6 +178,10 @@ public class UserServiceImpl implements UserService {
                 -> new RuntimeException("User not found"));
         user.setAccountNonExpired(!expire);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        if (expire) {
+            tokenRevocationService.revokeAllTokens(user.getUserName());
+        }
     }
 
     @Override
@@ -168,6 +190,10 @@ public class UserServiceImpl implements UserService {
                 -> new RuntimeException("User not found"));
         user.setEnabled(enabled);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        if (!enabled) {
+            tokenRevocationService.revokeAllTokens(user.getUserName());
+        }
     }
 
     @Override
@@ -176,6 +202,10 @@ public class UserServiceImpl implements UserService {
                 -> new RuntimeException("User not found"));
         user.setCredentialsNonExpired(!expire);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
+        if (expire) {
+            tokenRevocationService.revokeAllTokens(user.getUserName());
+        }
     }
 
     @Override
@@ -189,6 +219,7 @@ public class UserServiceImpl implements UserService {
             new RuntimeException("User not found"));
         user.setAccountExpiryDate(expiryDate);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
     }
 
     @Override
@@ -197,6 +228,7 @@ public class UserServiceImpl implements UserService {
             new RuntimeException("User not found"));
         user.setCredentialsExpiryDate(expiryDate);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
     }
 
     @Override
@@ -219,6 +251,7 @@ public class UserServiceImpl implements UserService {
         
         user.setEmail(email);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
     }
 
     @Override
@@ -244,6 +277,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setTwoFactorEnabled(true);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
     }
 
     @Override
@@ -252,6 +286,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setTwoFactorEnabled(false);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getUserName());
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.babypal.util;
 
 import com.babypal.models.User;
 import com.babypal.repositories.UserRepository;
+import com.babypal.security.services.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,9 +16,7 @@ public class AuthUtil {
 
     public Long loggedInUserId(){
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userRepository.findByUserName(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getUserId();
+        return userIdOf(authentication.getName());
     }
 
     public User loggedInUser(){
@@ -25,4 +24,22 @@ public class AuthUtil {
         return userRepository.findByUserName(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
+
+    /**
+     * Resolves the id of {@code username}. When it is the user authenticated on the current request
+     * the id comes from the principal AuthTokenFilter already built, so no query is issued; otherwise
+     * (another user, or no request such as a scheduled job) it falls back to a lookup.
+     */
+    public Long userIdOf(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof UserDetailsImpl principal
+                && principal.getId() != null
+                && principal.getUsername().equals(username)) {
+            return principal.getId();
+        }
+        return userRepository.findByUserName(username)
+                .map(User::getUserId)
+                .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+    }
 }
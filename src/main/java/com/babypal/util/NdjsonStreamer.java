@@ -0,0 +1,129 @@
+package com.babypal.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Writes query results as newline-delimited JSON while they are read from a forward-only cursor, so
+ * memory stays flat however many rows there are. Rows are read inside a read-only transaction (needed for
+ * the JDBC fetch size to take effect on PostgreSQL) and the persistence context is cleared after every
+ * fetch so loaded entities don't accumulate.
+ */
+@Component
+public class NdjsonStreamer {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public NdjsonStreamer(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            @Value("${spring.app.streaming.fetchSize:500}") int fetchSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Streams the entities matching {@code spec}; must be called from inside {@link #ndjson}. Eager to-one
+     * associations should be listed in {@code fetches}: they are then read in the same statement, where
+     * otherwise every clear of the persistence context would cost another select per associated row.
+     */
+    public <T> Stream<T> streamEntities(Class<T> type, Specification<T> spec, Sort sort, String... fetches) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        for (String fetch : fetches) {
+            root.fetch(fetch);
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Streams the results of a JPQL query, e.g. a constructor projection; must be called from inside
+     * {@link #ndjson}. {@code parameters} may hold null values.
+     */
+    public <T> Stream<T> streamQuery(Class<T> type, String jpql, Map<String, ?> parameters) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, type);
+        parameters.forEach(query::setParameter);
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    public StreamingResponseBody ndjson(Supplier<? extends Stream<?>> rows) {
+        return stream(rows, (row, out) -> {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        });
+    }
+
+    /**
+     * Like {@link #ndjson} but with the encoding of each row left to {@code writer}.
+     */
+    public StreamingResponseBody stream(Supplier<? extends Stream<?>> rows, RowWriter writer) {
+        return out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<?> stream = rows.get()) {
+                        int written = 0;
+                        Iterator<?> iterator = stream.iterator();
+                        while (iterator.hasNext()) {
+                            writer.write(iterator.next(), out);
+                            if (++written % fetchSize == 0) {
+                                out.flush();
+                                entityManager.clear();
+                            }
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(Object row, OutputStream out) throws IOException;
+    }
+}
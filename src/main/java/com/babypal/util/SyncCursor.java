@@ -0,0 +1,45 @@
+package com.babypal.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Delta sync watermark. Changed babies are never paged, so they only need a time; each paged source
+ * keeps its own (updated_at, id) position so a page that ends inside a run of equal timestamps resumes
+ * after the last row it returned.
+ */
+public record SyncCursor(LocalDateTime babies, KeysetCursor records, KeysetCursor measurements,
+        KeysetCursor deleted) {
+
+    /**
+     * Every source positioned just before {@code time}, i.e. rows at {@code time} are included.
+     */
+    public static SyncCursor startingAt(LocalDateTime time) {
+        KeysetCursor start = new KeysetCursor(time, Long.MIN_VALUE);
+        return new SyncCursor(time, start, start, start);
+    }
+
+    public String encode() {
+        String raw = babies + "|" + records.time() + "|" + records.id()
+                + "|" + measurements.time() + "|" + measurements.id()
+                + "|" + deleted.time() + "|" + deleted.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new SyncCursor(LocalDateTime.parse(parts[0]),
+                    new KeysetCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2])),
+                    new KeysetCursor(LocalDateTime.parse(parts[3]), Long.valueOf(parts[4])),
+                    new KeysetCursor(LocalDateTime.parse(parts[5]), Long.valueOf(parts[6])));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.babypal.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.babypal.dtos.TimelineEntry;
+
+/**
+ * Position in a merged timeline ordered by (time desc, kind, id desc). The kind is part of the position
+ * because record and measurement ids come from different sequences and can collide.
+ */
+public record TimelineCursor(LocalDateTime time, TimelineEntry.Kind kind, Long id) {
+
+    public static TimelineCursor of(TimelineEntry entry) {
+        return new TimelineCursor(entry.getTime(), entry.getKind(), entry.getId());
+    }
+
+    /**
+     * The equivalent (time, id) position within one source of the timeline, for its own keyset query.
+     * Sources ordered before this cursor's kind resume strictly before {@code time}; sources ordered
+     * after it resume at {@code time} inclusive.
+     */
+    public KeysetCursor forSource(TimelineEntry.Kind source) {
+        int order = source.compareTo(kind);
+        if (order == 0) {
+            return new KeysetCursor(time, id);
+        }
+        return new KeysetCursor(time, order < 0 ? Long.MIN_VALUE : Long.MAX_VALUE);
+    }
+
+    public String encode() {
+        String raw = time + "|" + kind + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), TimelineEntry.Kind.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+-- PostgreSQL-specific schema objects that JPA annotations cannot express.
+-- Runs after Hibernate's ddl-auto update (spring.jpa.defer-datasource-initialization),
+-- so every statement here must be idempotent.
+
+-- Caregiver membership lookups (BabyRepository.findAllByOwnerOrCaregiver)
+CREATE INDEX IF NOT EXISTS idx_baby_caregivers ON baby USING gin (caregivers);
+
+-- Soft-deleted rows waiting for SoftDeletePurger; partial so live rows cost nothing
+CREATE INDEX IF NOT EXISTS idx_baby_deleted_at ON baby (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_record_deleted_at ON record (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_measurement_deleted_at ON measurement (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- IDENTITY -> pooled sequence migration. Tables that existed before the switch keep their IDs;
+-- each sequence is moved at least one allocation block (50) past the highest existing ID.
+-- GREATEST keeps this a no-op once the sequence has overtaken the table.
+SELECT setval('baby_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM baby) + 50, (SELECT last_value FROM baby_seq)));
+SELECT setval('record_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM record) + 50, (SELECT last_value FROM record_seq)));
+SELECT setval('measurement_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM measurement) + 50, (SELECT last_value FROM measurement_seq)));
+SELECT setval('log_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM log) + 50, (SELECT last_value FROM log_seq)));
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(user_id), 0) FROM users) + 50, (SELECT last_value FROM users_seq)));
+SELECT setval('growth_guide_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM growth_guide) + 50, (SELECT last_value FROM growth_guide_seq)));
+
+-- Hourly audit counts kept after raw log partitions expire (LogPartitionMaintenance)
+CREATE TABLE IF NOT EXISTS log_hourly_rollup (
+    bucket_start timestamp(6) NOT NULL,
+    type varchar(255) NOT NULL,
+    action varchar(255) NOT NULL,
+    status_code varchar(255) NOT NULL,
+    event_count bigint NOT NULL,
+    PRIMARY KEY (bucket_start, type, action, status_code)
+);
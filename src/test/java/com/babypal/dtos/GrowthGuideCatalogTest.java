@@ -0,0 +1,80 @@
+package com.babypal.dtos;
+
+import com.babypal.models.GrowthGuide;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrowthGuideCatalogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GrowthGuide guide(Long id, String monthRange) {
+        return GrowthGuide.builder()
+                .id(id)
+                .monthRange(monthRange)
+                .ageDescription("Age " + monthRange)
+                .physicalDevelopment(new ArrayList<>(List.of("grows")))
+                .cognitiveSocial(new ArrayList<>(List.of("smiles")))
+                .motorSkills(new ArrayList<>(List.of("kicks")))
+                .build();
+    }
+
+    @Test
+    void of_ShouldProduceSameEtag_ForSameContent() {
+        GrowthGuideCatalog first = GrowthGuideCatalog.of(List.of(guide(2L, "1"), guide(1L, "0")), objectMapper);
+        GrowthGuideCatalog second = GrowthGuideCatalog.of(List.of(guide(1L, "0"), guide(2L, "1")), objectMapper);
+
+        assertEquals(first.getEtag(), second.getEtag());
+        assertEquals(List.of(1L, 2L), first.getGuides().stream().map(GrowthGuide::getId).toList());
+    }
+
+    @Test
+    void of_ShouldChangeEtag_WhenContentChanges() {
+        GrowthGuideCatalog before = GrowthGuideCatalog.of(List.of(guide(1L, "0")), objectMapper);
+        GrowthGuide changed = guide(1L, "0");
+        changed.setAgeDescription("Newborn");
+        GrowthGuideCatalog after = GrowthGuideCatalog.of(List.of(changed), objectMapper);
+
+        assertNotEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    void of_ShouldNotReflectLaterChangesToSourceEntities() {
+        GrowthGuide source = guide(1L, "0");
+        GrowthGuideCatalog catalog = GrowthGuideCatalog.of(List.of(source), objectMapper);
+
+        source.setAgeDescription("Changed");
+        source.getMotorSkills().add("rolls");
+
+        GrowthGuide snapshot = catalog.getGuidesById().get(1L);
+        assertEquals("Age 0", snapshot.getAgeDescription());
+        assertEquals(List.of("kicks"), snapshot.getMotorSkills());
+    }
+
+    @Test
+    void findByAgeInMonths_ShouldResolveByLeadingMonthOfRange() {
+        GrowthGuideCatalog catalog = GrowthGuideCatalog.of(List.of(
+                guide(1L, "0-1 months"),
+                guide(2L, "1-2 months"),
+                guide(3L, "12 months"),
+                guide(4L, "48 months")), objectMapper);
+
+        assertEquals(1L, catalog.findByAgeInMonths(0).getId());
+        assertEquals(2L, catalog.findByAgeInMonths(1).getId());
+        assertEquals(2L, catalog.findByAgeInMonths(11).getId());
+        assertEquals(3L, catalog.findByAgeInMonths(12).getId());
+        assertEquals(4L, catalog.findByAgeInMonths(48).getId());
+        assertEquals(4L, catalog.findByAgeInMonths(120).getId());
+        assertEquals(1L, catalog.findByAgeInMonths(-3).getId());
+    }
+
+    @Test
+    void findByAgeInMonths_ShouldReturnNull_WhenCatalogIsEmpty() {
+        assertNull(GrowthGuideCatalog.of(List.of(), objectMapper).findByAgeInMonths(5));
+    }
+}
@@ -0,0 +1,97 @@
+package com.babypal.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.models.Baby;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Baby summary query Tests")
+class BabySummaryQueryTest {
+
+    @Autowired
+    private BabyRepository babyRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should load summaries in one statement regardless of the number of babies")
+    void shouldLoadSummariesInConstantStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        createBabies("summary.few", 2);
+        statistics.clear();
+        List<BabySummaryDTO> few = babyRepository.findSummariesByOwnerOrCaregiver("summary.few");
+        long fewStatements = statistics.getPrepareStatementCount();
+
+        createBabies("summary.many", 8);
+        statistics.clear();
+        List<BabySummaryDTO> many = babyRepository.findSummariesByOwnerOrCaregiver("summary.many");
+        long manyStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(2, few.size());
+        assertEquals(8, many.size());
+        assertEquals(1, fewStatements);
+        assertEquals(fewStatements, manyStatements);
+    }
+
+    @Test
+    @DisplayName("Should include counts and the latest measurement")
+    void shouldIncludeCountsAndLatestMeasurement() {
+        createBabies("summary.counts", 1);
+
+        BabySummaryDTO summary = babyRepository.findSummariesByOwnerOrCaregiver("summary.counts").get(0);
+
+        assertEquals(3, summary.getRecordCount());
+        assertEquals(2, summary.getMeasurementCount());
+        assertNotNull(summary.getLatestMeasurement());
+        assertEquals(4.5, summary.getLatestMeasurement().weight());
+    }
+
+    private void createBabies(String owner, int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<Record> records = new ArrayList<>();
+        List<Measurement> measurements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Baby baby = babyRepository.save(Baby.builder()
+                    .name("Summary Baby " + i)
+                    .dateOfBirth(base)
+                    .caregivers(new ArrayList<>(List.of(owner)))
+                    .owner(owner)
+                    .build());
+            for (int r = 0; r < 3; r++) {
+                records.add(Record.builder().baby(baby).author(owner).type("FEED")
+                        .startTime(base.plusHours(r)).build());
+            }
+            measurements.add(Measurement.builder().baby(baby).author(owner).weight(3.5).time(base).build());
+            measurements.add(Measurement.builder().baby(baby).author(owner).weight(4.5).time(base.plusDays(30)).build());
+        }
+        recordRepository.saveAll(records);
+        measurementRepository.saveAll(measurements);
+    }
+}
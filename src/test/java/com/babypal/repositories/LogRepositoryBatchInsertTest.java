@@ -0,0 +1,54 @@
+package com.babypal.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.models.Log;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Log batch insert Tests")
+class LogRepositoryBatchInsertTest {
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should send saveAll inserts as JDBC batches")
+    void shouldBatchInsertsOnSaveAll() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Log> logs = IntStream.range(0, 20)
+                .mapToObj(i -> Log.builder()
+                        .username("batchuser")
+                        .type("TEST")
+                        .typeId((long) i)
+                        .action("BATCH_INSERT")
+                        .statusCode("200")
+                        .build())
+                .toList();
+
+        statistics.clear();
+        logRepository.saveAll(logs);
+
+        assertEquals(logs.size(), statistics.getEntityInsertCount());
+        // One prepared INSERT per batch plus the sequence calls, instead of one statement per row
+        assertTrue(statistics.getPrepareStatementCount() < logs.size(),
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
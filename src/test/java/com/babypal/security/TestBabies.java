@@ -0,0 +1,28 @@
+package com.babypal.security;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.babypal.models.Baby;
+
+/**
+ * Baby request bodies for service tests that only need some baby the principal can write to, as passed to
+ * {@code BabyService.createBaby} and {@code updateBaby}.
+ */
+public final class TestBabies {
+
+    private TestBabies() {
+    }
+
+    public static Baby ownedBy(String owner, String... otherCaregivers) {
+        List<String> caregivers = new ArrayList<>(List.of(owner));
+        caregivers.addAll(List.of(otherCaregivers));
+        return Baby.builder()
+                .name("Test Baby")
+                .dateOfBirth(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .caregivers(caregivers)
+                .owner(owner)
+                .build();
+    }
+}
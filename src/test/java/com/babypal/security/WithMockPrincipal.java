@@ -0,0 +1,28 @@
+package com.babypal.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.security.test.context.support.WithSecurityContext;
+
+/**
+ * Runs a test as an authenticated {@link com.babypal.security.services.UserDetailsImpl} principal, the
+ * same shape AuthTokenFilter puts in the context, without the user having to exist in the database.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@WithSecurityContext(factory = WithMockPrincipalSecurityContextFactory.class)
+public @interface WithMockPrincipal {
+
+    String username();
+
+    long id() default 1000L;
+
+    String[] roles() default { "USER" };
+}
@@ -0,0 +1,35 @@
+package com.babypal.security;
+
+import java.util.Arrays;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+import com.babypal.security.services.UserDetailsImpl;
+
+public class WithMockPrincipalSecurityContextFactory implements WithSecurityContextFactory<WithMockPrincipal> {
+
+    @Override
+    public SecurityContext createSecurityContext(WithMockPrincipal annotation) {
+        return contextFor(annotation.id(), annotation.username(), annotation.roles());
+    }
+
+    /**
+     * For tests that act as more than one user; the test context listener still clears it afterwards.
+     */
+    public static void authenticateAs(long id, String username, String... roles) {
+        SecurityContextHolder.setContext(contextFor(id, username, roles.length == 0 ? new String[] { "USER" } : roles));
+    }
+
+    private static SecurityContext contextFor(long id, String username, String[] roles) {
+        UserDetailsImpl principal = new UserDetailsImpl(id, username, username + "@example.com", null,
+                false, true, true, true, true,
+                Arrays.stream(roles).map(role -> new SimpleGrantedAuthority("ROLE_" + role)).toList());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return context;
+    }
+}
@@ -0,0 +1,71 @@
+package com.babypal.security.jwt;
+
+import com.babypal.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private JwtUtils jwtUtils;
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret",
+                Base64.getEncoder().encodeToString("test-secret-key-that-is-at-least-256-bits".getBytes()));
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+        jwtUtils.init();
+
+        userDetails = new UserDetailsImpl(1L, "testuser", "test@example.com", "password",
+                true, true, true, true, true, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void getValidatedClaims_ShouldReturnSubjectRolesAnd2fa_WhenTokenIsValid() {
+        String token = jwtUtils.generateTokenFromUsername(userDetails);
+
+        Claims claims = jwtUtils.getValidatedClaims(token);
+
+        assertNotNull(claims);
+        assertEquals("testuser", claims.getSubject());
+        assertEquals(1L, claims.get("uid", Long.class));
+        assertEquals("ROLE_USER", claims.get("roles", String.class));
+        assertEquals(Boolean.TRUE, claims.get("is2faEnabled", Boolean.class));
+    }
+
+    @Test
+    void generateTokenFromUsername_ShouldUseAccessExpiration_WhenClaimsOnlyAuthIsEnabled() {
+        ReflectionTestUtils.setField(jwtUtils, "claimsOnlyAuth", true);
+        ReflectionTestUtils.setField(jwtUtils, "jwtAccessExpirationMs", 5_000);
+
+        Claims claims = jwtUtils.getValidatedClaims(jwtUtils.generateTokenFromUsername(userDetails));
+
+        assertNotNull(claims);
+        long lifetimeMs = claims.getExpiration().getTime() - claims.getIssuedAt().getTime();
+        assertTrue(lifetimeMs <= 6_000, "access token should be short-lived but lived " + lifetimeMs + "ms");
+    }
+
+    @Test
+    void getValidatedClaims_ShouldReturnNull_WhenSignatureDoesNotMatch() {
+        String token = jwtUtils.generateTokenFromUsername(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(jwtUtils.getValidatedClaims(tampered));
+        assertFalse(jwtUtils.validateJwtToken(tampered));
+    }
+
+    @Test
+    void getValidatedClaims_ShouldReturnNull_WhenTokenIsMalformed() {
+        assertNull(jwtUtils.getValidatedClaims("not-a-jwt"));
+        assertNull(jwtUtils.getValidatedClaims(""));
+    }
+}
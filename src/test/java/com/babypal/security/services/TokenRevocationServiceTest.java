@@ -0,0 +1,55 @@
+package com.babypal.security.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationServiceTest {
+
+    @Test
+    void isRevoked_ShouldRejectTokensIssuedBeforeWatermark() {
+        TokenRevocationService service = new TokenRevocationService(60_000);
+        long now = System.currentTimeMillis();
+
+        service.revokeTokensIssuedBefore("alice", now);
+
+        assertTrue(service.isRevoked("alice", new Date(now - 1_000)));
+        assertFalse(service.isRevoked("alice", new Date(now + 1_000)));
+        assertFalse(service.isRevoked("bob", new Date(now - 1_000)));
+    }
+
+    @Test
+    void isRevoked_ShouldAcceptTokenIssuedInTheSameSecondAsTheRevocation() {
+        TokenRevocationService service = new TokenRevocationService(60_000);
+        long now = System.currentTimeMillis() / 1000 * 1000 + 700;
+
+        service.revokeTokensIssuedBefore("alice", now);
+
+        // "iat" of a token issued 200ms after the revocation, truncated to the second by the JWT
+        assertFalse(service.isRevoked("alice", new Date(now / 1000 * 1000)));
+        assertTrue(service.isRevoked("alice", new Date(now / 1000 * 1000 - 1_000)));
+    }
+
+    @Test
+    void revokeTokensIssuedBefore_ShouldNeverMoveWatermarkBackwards() {
+        TokenRevocationService service = new TokenRevocationService(60_000);
+        long now = System.currentTimeMillis();
+
+        service.revokeTokensIssuedBefore("alice", now);
+        service.revokeTokensIssuedBefore("alice", now - 5_000);
+
+        assertTrue(service.isRevoked("alice", new Date(now - 1_000)));
+    }
+
+    @Test
+    void isRevoked_ShouldForgetWatermarkOnceAllEarlierTokensHaveExpired() {
+        TokenRevocationService service = new TokenRevocationService(1_000);
+        long longAgo = System.currentTimeMillis() - 10_000;
+
+        service.revokeTokensIssuedBefore("alice", longAgo);
+
+        assertFalse(service.isRevoked("alice", new Date(longAgo - 1_000)));
+    }
+}
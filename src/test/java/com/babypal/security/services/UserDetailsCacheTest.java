@@ -0,0 +1,89 @@
+package com.babypal.security.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return new UserDetailsImpl(1L, username, username + "@example.com", "password",
+                false, true, true, true, true, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    };
+
+    @Test
+    void get_ShouldLoadOnce_WhenCalledRepeatedlyWithinTtl() {
+        UserDetailsCache cache = new UserDetailsCache(60_000, 100);
+
+        UserDetails first = cache.get("testuser", loader);
+        UserDetails second = cache.get("testuser", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    void get_ShouldReload_AfterInvalidate() {
+        UserDetailsCache cache = new UserDetailsCache(60_000, 100);
+
+        cache.get("testuser", loader);
+        cache.invalidate("testuser");
+        cache.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldReload_WhenEntryHasExpired() throws InterruptedException {
+        UserDetailsCache cache = new UserDetailsCache(1, 100);
+
+        cache.get("testuser", loader);
+        Thread.sleep(10);
+        cache.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        UserDetailsCache cache = new UserDetailsCache(60_000, 2);
+
+        cache.get("first", loader);
+        cache.get("second", loader);
+        cache.get("first", loader);
+        cache.get("third", loader);
+
+        assertEquals(2L, cache.getStats().get("size"));
+        assertEquals(1L, cache.getStats().get("evictions"));
+
+        cache.get("first", loader);
+        assertEquals(3, loads.get());
+        cache.get("second", loader);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheLoad_ThatRacedWithInvalidate() {
+        UserDetailsCache cache = new UserDetailsCache(60_000, 100);
+
+        cache.get("testuser", username -> {
+            cache.invalidate(username);
+            return loader.apply(username);
+        });
+        cache.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
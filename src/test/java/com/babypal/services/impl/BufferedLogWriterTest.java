@@ -0,0 +1,55 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.babypal.models.Log;
+import com.babypal.repositories.LogRepository;
+
+class BufferedLogWriterTest {
+
+    private final LogRepository repository = mock(LogRepository.class);
+
+    @Test
+    void stop_ShouldWriteEntriesQueuedAfterTheWorkersFinalDrain() {
+        // Never started, so the worker has nothing left to drain: as if the entry was offered just after
+        BufferedLogWriter writer = new BufferedLogWriter(repository, 10, 10, 1000, 1000,
+                BufferedLogWriter.OverflowPolicy.BLOCK);
+        List<Log> saved = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        Log log = Log.builder().action("GET_BABY").build();
+        writer.write(log, true);
+
+        writer.stop();
+
+        assertEquals(List.of(log), saved);
+        assertEquals(0, writer.getPendingCount());
+        assertEquals(1, writer.getWrittenCount());
+    }
+
+    @Test
+    void write_ShouldSaveSynchronouslyOnceStopped() {
+        BufferedLogWriter writer = new BufferedLogWriter(repository, 10, 10, 1000, 1000,
+                BufferedLogWriter.OverflowPolicy.BLOCK);
+        writer.stop();
+        Log log = Log.builder().action("GET_BABY").build();
+
+        writer.write(log, true);
+
+        verify(repository).save(log);
+        verify(repository, never()).saveAll(anyList());
+        assertEquals(0, writer.getPendingCount());
+    }
+}
@@ -0,0 +1,90 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.models.Baby;
+import com.babypal.models.Record;
+import com.babypal.models.User;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.services.BabyService;
+import com.babypal.services.RecordService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "lookup.user", id = 4242L)
+@DisplayName("Current user audit lookup Tests")
+class CurrentUserAuditLookupTest {
+
+    private static final String USERNAME = "lookup.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void initStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should audit baby writes without querying the users table")
+    void babyWritesShouldNotLookUpUser() {
+        statistics.clear();
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        assertNoUserLookup();
+
+        statistics.clear();
+        babyService.updateBaby(baby.getId(), TestBabies.ownedBy(USERNAME), USERNAME);
+        assertNoUserLookup();
+
+        // Soft delete issues bulk updates for the children, so only the user load is checked here
+        statistics.clear();
+        babyService.deleteBaby(baby.getId(), USERNAME);
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should audit record writes without querying the users table")
+    void recordWritesShouldNotLookUpUser() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+
+        statistics.clear();
+        Record record = recordService.createRecord(Record.builder()
+                .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 1, 8, 0)).build(), USERNAME);
+        assertNoUserLookup();
+
+        statistics.clear();
+        recordService.updateRecord(record.getId(), Record.builder().type("SLEEP").build(), USERNAME);
+        assertNoUserLookup();
+
+        statistics.clear();
+        recordService.deleteRecord(record.getId(), USERNAME);
+        assertNoUserLookup();
+    }
+
+    private void assertNoUserLookup() {
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+}
@@ -0,0 +1,89 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.babypal.dtos.GrowthGuideCatalog;
+import com.babypal.models.GrowthGuide;
+import com.babypal.repositories.GrowthGuideRepository;
+import com.babypal.services.LogService;
+import com.babypal.util.AuthUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class GrowthGuideServiceImplTest {
+
+    private final GrowthGuideRepository repository = mock(GrowthGuideRepository.class);
+
+    private GrowthGuideServiceImpl service(long maxAgeMs) {
+        return new GrowthGuideServiceImpl(repository, mock(LogService.class), mock(AuthUtil.class),
+                new ObjectMapper(), maxAgeMs);
+    }
+
+    private static GrowthGuide guide(String ageDescription) {
+        return GrowthGuide.builder()
+                .id(1L)
+                .monthRange("0")
+                .ageDescription(ageDescription)
+                .physicalDevelopment(new ArrayList<>(List.of("grows")))
+                .cognitiveSocial(new ArrayList<>(List.of("smiles")))
+                .motorSkills(new ArrayList<>(List.of("kicks")))
+                .build();
+    }
+
+    @Test
+    void refreshCatalog_ShouldNotLetAnOlderLoadOverwriteANewerOne() throws Exception {
+        GrowthGuideServiceImpl service = service(300_000);
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowLoad = new CountDownLatch(1);
+        when(repository.findAll())
+                .thenAnswer(invocation -> {
+                    slowLoadStarted.countDown();
+                    releaseSlowLoad.await(5, TimeUnit.SECONDS);
+                    return List.of(guide("Before update"));
+                })
+                .thenReturn(List.of(guide("After update")));
+
+        CompletableFuture<GrowthGuideCatalog> ttlReload = CompletableFuture.supplyAsync(service::refreshCatalog);
+        slowLoadStarted.await(5, TimeUnit.SECONDS);
+        service.refreshCatalog();
+        releaseSlowLoad.countDown();
+
+        assertEquals("After update", ttlReload.get(5, TimeUnit.SECONDS).getGuides().get(0).getAgeDescription());
+        assertEquals("After update", service.getCatalog().getGuides().get(0).getAgeDescription());
+    }
+
+    @Test
+    void getCatalog_ShouldServeExpiredSnapshotWhileAnotherCallerReloads() throws Exception {
+        GrowthGuideServiceImpl service = service(0);
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        when(repository.findAll())
+                .thenReturn(List.of(guide("First")))
+                .thenAnswer(invocation -> {
+                    reloadStarted.countDown();
+                    releaseReload.await(5, TimeUnit.SECONDS);
+                    return List.of(guide("Second"));
+                });
+        service.getCatalog();
+        Thread.sleep(1);
+
+        CompletableFuture<GrowthGuideCatalog> reload = CompletableFuture.supplyAsync(service::getCatalog);
+        reloadStarted.await(5, TimeUnit.SECONDS);
+        assertEquals("First", service.getCatalog().getGuides().get(0).getAgeDescription());
+        releaseReload.countDown();
+
+        assertEquals("Second", reload.get(5, TimeUnit.SECONDS).getGuides().get(0).getAgeDescription());
+        verify(repository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,118 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.dtos.ImportJobDTO;
+import com.babypal.models.Baby;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.services.BabyService;
+import com.babypal.services.ImportService;
+
+@SpringBootTest(properties = "spring.app.imports.chunkSize=2")
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "import.user", id = 7171L)
+@DisplayName("Import service Tests")
+class ImportServiceImplTest {
+
+    private static final String USERNAME = "import.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private ImportService importService;
+
+    @Test
+    @DisplayName("Should import valid CSV rows in chunks and report invalid ones")
+    void shouldImportCsvRecords() throws InterruptedException {
+        String csv = """
+                type,sub_type,note,start_time,client_key
+                FEED,BOTTLE,"120ml, warm",2024-05-01T08:00,a
+                DIAPER,WET,,2024-05-01 09:30:00,b
+                ,,,2024-05-01T10:00,c
+                SLEEP,,,not-a-date,d
+                FEED,BREAST,,2024-05-01T11:00,a
+                """;
+
+        ImportJobDTO job = runImport(ImportJobDTO.Kind.RECORDS, "history.csv", csv);
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getRowsRead());
+        assertEquals(2, job.getRowsImported());
+        assertEquals(1, job.getRowsSkipped());
+        assertEquals(2, job.getRowsFailed());
+        assertEquals(3, job.getErrors().get(0).row());
+    }
+
+    @Test
+    @DisplayName("Should stream measurements from a JSON array")
+    void shouldImportJsonMeasurements() throws InterruptedException {
+        String json = """
+                [{"time": "2024-05-01T08:00", "weight": 3.4},
+                 {"time": "2024-06-01T08:00", "height": 55.0, "headCircumference": 37.5},
+                 {"time": "2024-07-01T08:00"}]
+                """;
+
+        ImportJobDTO job = runImport(ImportJobDTO.Kind.MEASUREMENTS, "growth.json", json);
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getRowsImported());
+        assertEquals(1, job.getRowsFailed());
+    }
+
+    @Test
+    @DisplayName("Should keep a quoted line break inside its field and row")
+    void shouldImportCsvFieldSpanningLines() throws InterruptedException {
+        String csv = "type,note,start_time\r\n"
+                + "FEED,\"first line\r\nsecond line\",2024-05-01T08:00\r\n"
+                + "SLEEP,,not-a-date\r\n";
+
+        ImportJobDTO job = runImport(ImportJobDTO.Kind.RECORDS, "multiline.csv", csv);
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getRowsRead());
+        assertEquals(1, job.getRowsImported());
+        assertEquals(1, job.getRowsFailed());
+        assertEquals(2, job.getErrors().get(0).row());
+    }
+
+    @Test
+    @DisplayName("Should split quoted CSV fields")
+    void shouldSplitQuotedCsvFields() throws IOException {
+        StringReader reader = new StringReader("a,\"b, c\",\"say \"\"hi\"\"\",\nx,\"two\nlines\"\na,\"b");
+
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), ImportServiceImpl.readCsvRecord(reader));
+        assertEquals(List.of("x", "two\nlines"), ImportServiceImpl.readCsvRecord(reader));
+        assertThrows(IllegalArgumentException.class, () -> ImportServiceImpl.readCsvRecord(reader));
+        assertNull(ImportServiceImpl.readCsvRecord(reader));
+    }
+
+    private ImportJobDTO runImport(ImportJobDTO.Kind kind, String filename, String content)
+            throws InterruptedException {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        MockMultipartFile file = new MockMultipartFile("file", filename, null,
+                content.getBytes(StandardCharsets.UTF_8));
+
+        ImportJobDTO job = importService.startImport(baby.getId(), kind, null, file, USERNAME);
+        for (int i = 0; i < 100 && job.getFinishedAt() == null; i++) {
+            Thread.sleep(50);
+            job = importService.getImportJob(job.getId(), USERNAME);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,83 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.models.Baby;
+import com.babypal.models.Log;
+import com.babypal.models.Record;
+import com.babypal.repositories.LogOutboxRepository;
+import com.babypal.repositories.LogRepository;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.services.BabyService;
+import com.babypal.services.RecordService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.app.auditLog.outbox.relayIntervalMs=3600000")
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "outbox.user", id = 5151L)
+@DisplayName("Log outbox relay Tests")
+class LogOutboxRelayTest {
+
+    private static final String USERNAME = "outbox.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private LogOutboxRepository outboxRepository;
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private LogOutboxRelay relay;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should write the record and its audit entry in a single transaction")
+    void createRecordShouldUseOneTransaction() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        recordService.createRecord(Record.builder()
+                .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 1, 8, 0)).build(), USERNAME);
+
+        assertEquals(1, statistics.getTransactionCount());
+    }
+
+    @Test
+    @DisplayName("Should move outbox entries into the log table")
+    void relayShouldMoveOutboxEntriesIntoLog() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        assertTrue(outboxRepository.count() > 0);
+
+        relay.relay();
+
+        assertEquals(0, outboxRepository.count());
+        List<Log> logs = logRepository.findAll().stream()
+                .filter(l -> "CREATE_BABY".equals(l.getAction()) && baby.getId().equals(l.getTypeId()))
+                .toList();
+        assertEquals(1, logs.size());
+        assertEquals(USERNAME, logs.get(0).getUsername());
+    }
+}
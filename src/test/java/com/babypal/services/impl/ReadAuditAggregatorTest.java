@@ -0,0 +1,61 @@
+package com.babypal.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.babypal.models.Log;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+class ReadAuditAggregatorTest {
+
+    @Test
+    void policyFor_ShouldFallBackToDefaultForUnlistedActions() {
+        ReadAuditAggregator aggregator = new ReadAuditAggregator(mock(BufferedLogWriter.class),
+                "always", "GET_BABY=aggregate, GET_RECORD=sample:5");
+
+        assertEquals(ReadAuditAggregator.Mode.AGGREGATE, aggregator.policyFor("GET_BABY").mode());
+        assertEquals(5, aggregator.policyFor("GET_RECORD").sampleRate());
+        assertEquals(ReadAuditAggregator.Mode.ALWAYS, aggregator.policyFor("GET_MEASUREMENT").mode());
+    }
+
+    @Test
+    void policyFor_ShouldRejectUnknownPolicies() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadAuditAggregator(mock(BufferedLogWriter.class), "always", "GET_BABY=sometimes"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadAuditAggregator(mock(BufferedLogWriter.class), "sample:0", ""));
+    }
+
+    @Test
+    void flush_ShouldWriteOneRowPerUserEntityActionAndMinute() {
+        BufferedLogWriter writer = mock(BufferedLogWriter.class);
+        ReadAuditAggregator aggregator = new ReadAuditAggregator(writer, "aggregate", "");
+        LocalDateTime minute = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        for (int i = 0; i < 3; i++) {
+            aggregator.count("alice", "BABY", 1L, "GET_BABY", minute.plusSeconds(i * 10));
+        }
+        aggregator.count("alice", "BABY", 1L, "GET_BABY", minute.plusMinutes(1));
+        aggregator.count("bob", "BABY", 1L, "GET_BABY", minute);
+
+        aggregator.flush(minute.plusMinutes(1));
+
+        ArgumentCaptor<Log> captor = ArgumentCaptor.forClass(Log.class);
+        verify(writer, times(2)).write(captor.capture(), anyBoolean());
+        List<Log> rows = captor.getAllValues();
+        Log alice = rows.stream().filter(l -> l.getUsername().equals("alice")).findFirst().orElseThrow();
+        assertEquals(3L, alice.getEventCount());
+        assertEquals(minute, alice.getCreatedAt());
+        assertEquals(1, aggregator.getPendingBucketCount());
+
+        aggregator.flushAll();
+        verify(writer, times(3)).write(any(Log.class), anyBoolean());
+        assertEquals(0, aggregator.getPendingBucketCount());
+    }
+}
@@ -0,0 +1,118 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.babypal.dtos.RecordBatchResultDTO;
+import com.babypal.models.Baby;
+import com.babypal.models.Record;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.services.BabyService;
+import com.babypal.services.RecordService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "batch.user", id = 6161L)
+@DisplayName("Record batch ingestion Tests")
+class RecordBatchIngestionTest {
+
+    private static final String USERNAME = "batch.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @MockitoSpyBean
+    private RecordRepository recordRepository;
+
+    @Test
+    @DisplayName("Should create each record once and resolve replays to the stored record")
+    void replayedBatchShouldReturnDuplicates() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+
+        List<Record> batch = List.of(
+                record("feed-1", "FEED"),
+                record("diaper-1", "DIAPER"),
+                record("feed-1", "FEED"),
+                record("bad-1", null));
+
+        RecordBatchResultDTO first = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+
+        assertEquals(2, first.getCreated());
+        assertEquals(1, first.getDuplicates());
+        assertEquals(1, first.getRejected());
+        assertNotNull(first.getResults().get(0).id());
+        assertEquals(first.getResults().get(0).id(), first.getResults().get(2).id());
+
+        RecordBatchResultDTO replay = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+
+        assertEquals(0, replay.getCreated());
+        assertEquals(3, replay.getDuplicates());
+        assertEquals(first.getResults().get(1).id(), replay.getResults().get(1).id());
+    }
+
+    @Test
+    @DisplayName("Should resolve a replay that raced the original upload to duplicates instead of failing")
+    void concurrentReplayShouldReturnDuplicates() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        List<Record> batch = List.of(record("race-1", "FEED"), record("race-2", "DIAPER"));
+
+        RecordBatchResultDTO first = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+
+        // The replay looked its keys up while the first upload was still in flight, so it saw none of them
+        // and only hits uk_record_baby_client_key when it flushes
+        Answer<?> realLookup = mockingDetails(recordRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(List.of()).doAnswer(realLookup)
+                .when(recordRepository).findByBabyIdAndClientKeyInIncludingDeleted(eq(baby.getId()), anyCollection());
+
+        RecordBatchResultDTO replay = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+
+        assertEquals(0, replay.getCreated());
+        assertEquals(2, replay.getDuplicates());
+        assertEquals(first.getResults().get(0).id(), replay.getResults().get(0).id());
+        assertEquals(first.getResults().get(1).id(), replay.getResults().get(1).id());
+    }
+
+    @Test
+    @DisplayName("Should not bring a deleted record back when its upload is replayed")
+    void replayAfterDeleteShouldReportDeleted() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        List<Record> batch = List.of(record("gone-1", "FEED"));
+
+        RecordBatchResultDTO first = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+        recordService.deleteRecord(first.getResults().get(0).id(), USERNAME);
+
+        RecordBatchResultDTO replay = recordService.createRecordsBatch(baby.getId(), batch, USERNAME);
+
+        assertEquals(0, replay.getCreated());
+        assertEquals(RecordBatchResultDTO.Status.DELETED, replay.getResults().get(0).status());
+        assertEquals(first.getResults().get(0).id(), replay.getResults().get(0).id());
+    }
+
+    private static Record record(String clientKey, String type) {
+        return Record.builder()
+                .clientKey(clientKey)
+                .type(type)
+                .startTime(LocalDateTime.of(2025, 1, 2, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.models.Baby;
+import com.babypal.models.Measurement;
+import com.babypal.models.Record;
+import com.babypal.repositories.BabyRepository;
+import com.babypal.repositories.MeasurementRepository;
+import com.babypal.repositories.RecordRepository;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.services.BabyService;
+import com.babypal.services.MeasurementService;
+import com.babypal.services.RecordService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "purge.user", id = 4343L)
+@DisplayName("Soft delete and purge Tests")
+class SoftDeletePurgerTest {
+
+    private static final String USERNAME = "purge.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private MeasurementService measurementService;
+
+    @Autowired
+    private BabyRepository babyRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    @Autowired
+    private SoftDeletePurger purger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should hide a deleted baby and its children without loading them")
+    void deleteBabyShouldSoftDeleteWithoutLoadingChildren() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Record record = createRecord(baby);
+        Measurement measurement = createMeasurement(baby);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        babyService.deleteBaby(baby.getId(), USERNAME);
+
+        assertEquals(0, statistics.getEntityStatistics(Record.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(Measurement.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertTrue(babyRepository.findById(baby.getId()).isEmpty());
+        assertTrue(recordRepository.findById(record.getId()).isEmpty());
+        assertTrue(measurementRepository.findById(measurement.getId()).isEmpty());
+        assertEquals(1, countDeleted("record", record.getId()));
+        assertEquals(1, countDeleted("measurement", measurement.getId()));
+        assertEquals(1, countDeleted("baby", baby.getId()));
+    }
+
+    @Test
+    @DisplayName("Should purge rows only once they are past the cutoff")
+    void purgeShouldRemoveExpiredRowsChildrenFirst() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Record record = createRecord(baby);
+        Measurement measurement = createMeasurement(baby);
+        babyService.deleteBaby(baby.getId(), USERNAME);
+
+        purger.purge(LocalDateTime.of(2000, 1, 1, 0, 0));
+        assertEquals(1, countRows("baby", baby.getId()));
+
+        purger.purge(LocalDateTime.now().plusDays(2));
+        assertEquals(0, countRows("record", record.getId()));
+        assertEquals(0, countRows("measurement", measurement.getId()));
+        assertEquals(0, countRows("baby", baby.getId()));
+    }
+
+    @Test
+    @DisplayName("Should purge a deleted baby even when a child written during the delete is still live")
+    void purgeShouldNotBePinnedByLiveChildren() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Record record = createRecord(baby);
+        babyService.deleteBaby(baby.getId(), USERNAME);
+        // As if the record had been inserted after the bulk update flagged its siblings
+        jdbcTemplate.update("UPDATE record SET deleted_at = NULL WHERE id = ?", record.getId());
+
+        purger.purge(LocalDateTime.now().plusDays(2));
+
+        assertEquals(0, countRows("record", record.getId()));
+        assertEquals(0, countRows("baby", baby.getId()));
+    }
+
+    @Test
+    @DisplayName("Should leave the baby in place when only a record is deleted")
+    void deleteRecordShouldOnlyHideThatRecord() {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Record record = createRecord(baby);
+
+        recordService.deleteRecord(record.getId(), USERNAME);
+
+        assertTrue(recordRepository.findById(record.getId()).isEmpty());
+        assertEquals(1, countDeleted("record", record.getId()));
+        assertTrue(babyRepository.findById(baby.getId()).isPresent());
+    }
+
+    private Record createRecord(Baby baby) {
+        return recordService.createRecord(Record.builder()
+                .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 1, 8, 0)).build(), USERNAME);
+    }
+
+    private Measurement createMeasurement(Baby baby) {
+        return measurementService.createMeasurement(Measurement.builder()
+                .baby(baby).weight(3.4).time(LocalDateTime.of(2025, 1, 1, 9, 0)).build(), USERNAME);
+    }
+
+    private int countDeleted(String table, Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE id = ? AND deleted_at IS NOT NULL", Integer.class, id);
+    }
+
+    private int countRows(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,139 @@
+package com.babypal.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.babypal.dtos.BabySummaryDTO;
+import com.babypal.dtos.SyncResponseDTO;
+import com.babypal.models.Baby;
+import com.babypal.models.Record;
+import com.babypal.security.TestBabies;
+import com.babypal.security.WithMockPrincipal;
+import com.babypal.security.WithMockPrincipalSecurityContextFactory;
+import com.babypal.services.BabyService;
+import com.babypal.services.RecordService;
+import com.babypal.services.SyncService;
+import com.babypal.util.SyncCursor;
+
+@SpringBootTest(properties = { "spring.app.sync.overlapMs=0", "spring.app.sync.pageSize=2" })
+@ActiveProfiles("test")
+@WithMockPrincipal(username = "sync.user", id = 8181L)
+@DisplayName("Sync service Tests")
+class SyncServiceImplTest {
+
+    private static final String USERNAME = "sync.user";
+
+    @Autowired
+    private BabyService babyService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should return only changes after the watermark, with deletes as tombstones")
+    void shouldReturnDeltaSinceWatermark() throws InterruptedException {
+        Baby baby = babyService.createBaby(USERNAME, TestBabies.ownedBy(USERNAME));
+        Record kept = createRecord(baby);
+        Record removed = createRecord(baby);
+
+        SyncResponseDTO full = syncService.getChangesSince(USERNAME, null);
+        assertEquals(1, full.getBabies().size());
+        assertEquals(2, full.getRecords().size());
+        assertFalse(full.isHasMore());
+
+        Thread.sleep(5);
+        recordService.updateRecord(kept.getId(), Record.builder().type("SLEEP").build(), USERNAME);
+        recordService.deleteRecord(removed.getId(), USERNAME);
+
+        SyncResponseDTO delta = syncService.getChangesSince(USERNAME, full.getWatermark());
+        assertTrue(delta.getBabies().isEmpty());
+        assertEquals(List.of(kept.getId()), delta.getRecords().stream().map(Record::getId).toList());
+        assertEquals(1, delta.getDeleted().size());
+        assertEquals(removed.getId(), delta.getDeleted().get(0).getEntityId());
+    }
+
+    @Test
+    @DisplayName("Should ask for a full resync when the watermark predates tombstone retention")
+    void shouldRequireFullResyncForStaleWatermark() {
+        SyncResponseDTO response = syncService.getChangesSince(USERNAME,
+                SyncCursor.startingAt(LocalDateTime.of(2000, 1, 1, 0, 0)).encode());
+
+        assertTrue(response.isFullResyncRequired());
+    }
+
+    @Test
+    @WithMockPrincipal(username = "sync.paging", id = 8282L)
+    @DisplayName("Should page through rows sharing one updated_at without repeating or looping")
+    void shouldPageThroughEqualTimestamps() {
+        Baby baby = babyService.createBaby("sync.paging", TestBabies.ownedBy("sync.paging"));
+        for (int i = 0; i < 5; i++) {
+            recordService.createRecord(Record.builder()
+                    .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 2, 8, i)).build(), "sync.paging");
+        }
+        jdbcTemplate.update("UPDATE record SET updated_at = ? WHERE baby = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), baby.getId());
+
+        List<Long> seen = new ArrayList<>();
+        String since = null;
+        SyncResponseDTO page;
+        int calls = 0;
+        do {
+            page = syncService.getChangesSince("sync.paging", since);
+            page.getRecords().forEach(record -> seen.add(record.getId()));
+            since = page.getWatermark();
+        } while (page.isHasMore() && ++calls < 10);
+
+        assertFalse(page.isHasMore());
+        assertEquals(5, seen.size());
+        assertEquals(5, Set.copyOf(seen).size());
+    }
+
+    @Test
+    @WithMockPrincipal(username = "sync.owner", id = 8383L)
+    @DisplayName("Should ask a user added as caregiver after their last sync to resync for the history")
+    void shouldRequireResyncAfterGainingAccess() {
+        Baby baby = babyService.createBaby("sync.owner", TestBabies.ownedBy("sync.owner"));
+        recordService.createRecord(Record.builder()
+                .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 2, 8, 0)).build(), "sync.owner");
+
+        WithMockPrincipalSecurityContextFactory.authenticateAs(8484L, "sync.caregiver");
+        SyncResponseDTO first = syncService.getChangesSince("sync.caregiver", null);
+        assertTrue(first.getBabies().isEmpty());
+
+        WithMockPrincipalSecurityContextFactory.authenticateAs(8383L, "sync.owner");
+        babyService.updateBaby(baby.getId(), TestBabies.ownedBy("sync.owner", "sync.caregiver"), "sync.owner");
+
+        WithMockPrincipalSecurityContextFactory.authenticateAs(8484L, "sync.caregiver");
+        SyncResponseDTO delta = syncService.getChangesSince("sync.caregiver", first.getWatermark());
+        assertTrue(delta.isFullResyncRequired());
+
+        SyncResponseDTO resync = syncService.getChangesSince("sync.caregiver", null);
+        assertEquals(List.of(baby.getId()), resync.getBabies().stream().map(BabySummaryDTO::getId).toList());
+        assertEquals(1, resync.getRecords().size());
+    }
+
+    private Record createRecord(Baby baby) {
+        return recordService.createRecord(Record.builder()
+                .baby(baby).type("FEED").startTime(LocalDateTime.of(2025, 1, 2, 8, 0)).build(), USERNAME);
+    }
+}
@@ -0,0 +1,29 @@
+package com.babypal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_ShouldRoundTripEncodedCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000), 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_ShouldReturnNull_WhenCursorIsAbsent() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_ShouldRejectGarbage() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+}
@@ -0,0 +1,36 @@
+package com.babypal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SortedMergeTest {
+
+    @Test
+    void merge_ShouldInterleaveSortedSources() {
+        Iterator<Integer> merged = SortedMerge.merge(
+                List.of(List.of(1, 4, 7).iterator(), List.of(2, 3, 9).iterator(), List.of(5).iterator()),
+                Comparator.naturalOrder());
+
+        List<Integer> result = new ArrayList<>();
+        merged.forEachRemaining(result::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 9), result);
+    }
+
+    @Test
+    void merge_ShouldHandleEmptySources() {
+        Iterator<Integer> merged = SortedMerge.merge(
+                List.of(Collections.<Integer>emptyIterator(), Collections.<Integer>emptyIterator()),
+                Comparator.naturalOrder());
+
+        assertFalse(merged.hasNext());
+    }
+}
@@ -0,0 +1,27 @@
+package com.babypal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncCursorTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+    @Test
+    void decode_ShouldRoundTripEncodedCursor() {
+        SyncCursor cursor = new SyncCursor(T, new KeysetCursor(T.minusSeconds(5), 42L),
+                new KeysetCursor(T, Long.MIN_VALUE), new KeysetCursor(T.minusMinutes(1), 7L));
+
+        assertEquals(cursor, SyncCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_ShouldRejectGarbage() {
+        assertNull(SyncCursor.decode(null));
+        RuntimeException e = assertThrows(RuntimeException.class, () -> SyncCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+}
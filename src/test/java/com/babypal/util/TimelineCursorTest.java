@@ -0,0 +1,39 @@
+package com.babypal.util;
+
+import org.junit.jupiter.api.Test;
+
+import com.babypal.dtos.TimelineEntry;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimelineCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 14, 9, 26, 53);
+
+    @Test
+    void decode_ShouldRoundTripEncodedCursor() {
+        TimelineCursor cursor = new TimelineCursor(TIME, TimelineEntry.Kind.MEASUREMENT, 42L);
+
+        assertEquals(cursor, TimelineCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertNull(TimelineCursor.decode(null));
+        assertThrows(RuntimeException.class, () -> TimelineCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void forSource_ShouldResumeEachSourceAtTheRightPlace() {
+        TimelineCursor cursor = new TimelineCursor(TIME, TimelineEntry.Kind.RECORD, 42L);
+
+        // Same source resumes after the last id; a later-ordered source still includes rows at TIME
+        assertEquals(new KeysetCursor(TIME, 42L), cursor.forSource(TimelineEntry.Kind.RECORD));
+        assertEquals(new KeysetCursor(TIME, Long.MAX_VALUE), cursor.forSource(TimelineEntry.Kind.MEASUREMENT));
+
+        TimelineCursor afterMeasurement = new TimelineCursor(TIME, TimelineEntry.Kind.MEASUREMENT, 7L);
+        assertEquals(new KeysetCursor(TIME, Long.MIN_VALUE), afterMeasurement.forSource(TimelineEntry.Kind.RECORD));
+    }
+}